@@ -15,6 +15,7 @@ plugins {
     alias(libs.plugins.metadata)
     alias(libs.plugins.javadoclinks)
     alias(libs.plugins.hivemq.license)
+    alias(libs.plugins.jmh)
 }
 
 plugins.withId("com.hivemq.version-updater") {
@@ -63,6 +64,13 @@ dependencies {
     compileOnly(libs.jackson.annotations)
     compileOnly(libs.jackson.databind)
     compileOnly(libs.swagger.annotations)
+
+    testImplementation(platform(libs.junit.bom))
+    testImplementation(libs.junit.jupiter)
+    testImplementation(libs.jackson.databind)
+    testRuntimeOnly(libs.junit.platform.launcher)
+
+    jmh(libs.jackson.databind)
 }
 
 /* ******************** java ******************** */
@@ -98,6 +106,20 @@ tasks.javadoc {
     }
 }
 
+/* ******************** test ******************** */
+
+tasks.test {
+    useJUnitPlatform()
+}
+
+/* ******************** benchmarks ******************** */
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    profilers.add("gc")
+    providers.gradleProperty("jmh.includes").orNull?.let { includes.add(it) }
+}
+
 /* ******************** publishing ******************** */
 
 publishing {
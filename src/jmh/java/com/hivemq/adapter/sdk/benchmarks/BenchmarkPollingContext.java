@@ -0,0 +1,63 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.benchmarks;
+
+import com.hivemq.adapter.sdk.api.config.MessageHandlingOptions;
+import com.hivemq.adapter.sdk.api.config.MqttUserProperty;
+import com.hivemq.adapter.sdk.api.config.PollingContext;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+record BenchmarkPollingContext(
+        @NotNull String mqttTopic,
+        @NotNull MessageHandlingOptions messageHandlingOptions) implements PollingContext {
+
+    @Override
+    public @NotNull String getMqttTopic() {
+        return mqttTopic;
+    }
+
+    @Override
+    public @NotNull String getTagName() {
+        return "tag";
+    }
+
+    @Override
+    public int getMqttQos() {
+        return 0;
+    }
+
+    @Override
+    public @NotNull MessageHandlingOptions getMessageHandlingOptions() {
+        return messageHandlingOptions;
+    }
+
+    @Override
+    public @NotNull Boolean getIncludeTimestamp() {
+        return true;
+    }
+
+    @Override
+    public @NotNull Boolean getIncludeTagNames() {
+        return true;
+    }
+
+    @Override
+    public @NotNull List<MqttUserProperty> getUserProperties() {
+        return List.of();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.benchmarks;
+
+import com.hivemq.adapter.sdk.api.data.DataPoint;
+import com.hivemq.adapter.sdk.api.datapoint.DataPointListBuilder;
+import com.hivemq.adapter.sdk.api.tag.Tag;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Measures the cost of building and publishing the data points of a single poll.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DataPointListBuilderBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int tagCount;
+
+    @Param({"LONG", "DOUBLE", "BOOLEAN", "STRING", "OBJECT"})
+    public @NotNull ValueType valueType = ValueType.LONG;
+
+    @Param({"false", "true"})
+    public boolean reuse;
+
+    private @NotNull Tag @NotNull [] tags = new Tag[0];
+    private @NotNull String @NotNull [] stringValues = new String[0];
+    private long publishedCount;
+    private final @NotNull Consumer<List<DataPoint>> publisher = dataPoints -> publishedCount += dataPoints.size();
+    private @NotNull DataPointListBuilder reusableBuilder = new InMemoryDataPointListBuilder(publisher, 0, true);
+
+    @Setup
+    public void setUp() {
+        tags = new Tag[tagCount];
+        stringValues = new String[tagCount];
+        for (int i = 0; i < tagCount; i++) {
+            tags[i] = new BenchmarkTag("tag-" + i);
+            stringValues[i] = "value-" + i;
+        }
+        reusableBuilder = new InMemoryDataPointListBuilder(publisher, tagCount, true);
+    }
+
+    @Benchmark
+    public long poll() {
+        final DataPointListBuilder builder =
+                reuse ? reusableBuilder : new InMemoryDataPointListBuilder(publisher, tagCount, false);
+        for (int i = 0; i < tags.length; i++) {
+            valueType.setValue(builder.addDataPoint(tags[i]), i, stringValues[i]).endDataPoint();
+        }
+        builder.publish();
+        return publishedCount;
+    }
+}
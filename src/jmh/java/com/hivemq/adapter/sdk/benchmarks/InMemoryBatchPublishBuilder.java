@@ -0,0 +1,207 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.benchmarks;
+
+import com.hivemq.adapter.sdk.api.ProtocolAdapter;
+import com.hivemq.adapter.sdk.api.ProtocolAdapterBatchPublishBuilder;
+import com.hivemq.adapter.sdk.api.ProtocolAdapterPayloadBuffer;
+import com.hivemq.adapter.sdk.api.ProtocolBatchPublishResult;
+import com.hivemq.adapter.sdk.api.ProtocolPublishResult;
+import com.hivemq.adapter.sdk.api.TopicHandle;
+import com.hivemq.adapter.sdk.api.UserPropertiesHandle;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Reference {@link ProtocolAdapterBatchPublishBuilder} that completes every publish immediately as delivered.
+ */
+final class InMemoryBatchPublishBuilder implements ProtocolAdapterBatchPublishBuilder {
+
+    private final @NotNull InMemoryPublishService publishService;
+    private @NotNull String @NotNull [] topics;
+    private @NotNull ByteBuffer @NotNull [] payloads;
+    private @Nullable ProtocolAdapterPayloadBuffer @NotNull [] payloadBuffers;
+    private @Nullable List<String> userProperties;
+    private @Nullable UserPropertiesHandle userPropertiesHandle;
+    private @Nullable Map<String, String> contextInformation;
+    private int size;
+    private int qos;
+    private long messageExpiryInterval = Long.MAX_VALUE;
+    private boolean retain;
+    private boolean storeAndForward;
+
+    InMemoryBatchPublishBuilder(final @NotNull InMemoryPublishService publishService, final int expectedSize) {
+        this.publishService = publishService;
+        this.topics = new String[expectedSize];
+        this.payloads = new ByteBuffer[expectedSize];
+        this.payloadBuffers = new ProtocolAdapterPayloadBuffer[expectedSize];
+    }
+
+    private @NotNull InMemoryBatchPublishBuilder add(
+            final @NotNull String mqttTopic,
+            final @NotNull ByteBuffer payload,
+            final @Nullable ProtocolAdapterPayloadBuffer payloadBuffer) {
+        if (size == topics.length) {
+            final int newLength = Math.max(8, size * 2);
+            topics = Arrays.copyOf(topics, newLength);
+            payloads = Arrays.copyOf(payloads, newLength);
+            payloadBuffers = Arrays.copyOf(payloadBuffers, newLength);
+        }
+        topics[size] = mqttTopic;
+        payloads[size] = payload;
+        payloadBuffers[size] = payloadBuffer;
+        size++;
+        return this;
+    }
+
+    @Override
+    public @NotNull InMemoryBatchPublishBuilder add(
+            final @NotNull String mqttTopic,
+            final @NotNull ByteBuffer payload) {
+        return add(mqttTopic, payload, null);
+    }
+
+    @Override
+    public @NotNull InMemoryBatchPublishBuilder add(final @NotNull String mqttTopic, final byte @NotNull [] payload) {
+        return add(mqttTopic, ByteBuffer.wrap(payload), null);
+    }
+
+    @Override
+    public @NotNull InMemoryBatchPublishBuilder add(
+            final @NotNull String mqttTopic,
+            final @NotNull ProtocolAdapterPayloadBuffer payload) {
+        return add(mqttTopic, payload.buffer(), payload);
+    }
+
+    @Override
+    public @NotNull InMemoryBatchPublishBuilder add(
+            final @NotNull TopicHandle topicHandle,
+            final @NotNull ByteBuffer payload) {
+        return add(topicHandle.getTopic(), payload, null);
+    }
+
+    @Override
+    public @NotNull InMemoryBatchPublishBuilder add(
+            final @NotNull TopicHandle topicHandle,
+            final byte @NotNull [] payload) {
+        return add(topicHandle.getTopic(), ByteBuffer.wrap(payload), null);
+    }
+
+    @Override
+    public @NotNull InMemoryBatchPublishBuilder add(
+            final @NotNull TopicHandle topicHandle,
+            final @NotNull ProtocolAdapterPayloadBuffer payload) {
+        return add(topicHandle.getTopic(), payload.buffer(), payload);
+    }
+
+    @Override
+    public @NotNull InMemoryBatchPublishBuilder withQoS(final int qos) {
+        this.qos = qos;
+        return this;
+    }
+
+    @Override
+    public @NotNull InMemoryBatchPublishBuilder withMessageExpiryInterval(final long messageExpiryInterval) {
+        this.messageExpiryInterval = messageExpiryInterval;
+        return this;
+    }
+
+    @Override
+    public @NotNull InMemoryBatchPublishBuilder withUserProperty(
+            final @NotNull String name,
+            final @NotNull String value) {
+        if (userProperties == null) {
+            userProperties = new ArrayList<>();
+        }
+        userProperties.add(name);
+        userProperties.add(value);
+        return this;
+    }
+
+    @Override
+    public @NotNull InMemoryBatchPublishBuilder withUserProperties(final @NotNull UserPropertiesHandle userProperties) {
+        this.userPropertiesHandle = userProperties;
+        return this;
+    }
+
+    @Override
+    public @NotNull InMemoryBatchPublishBuilder withRetain(final boolean retained) {
+        this.retain = retained;
+        return this;
+    }
+
+    @Override
+    public @NotNull InMemoryBatchPublishBuilder withStoreAndForward(final boolean storeAndForward) {
+        this.storeAndForward = storeAndForward;
+        return this;
+    }
+
+    @Override
+    public @NotNull InMemoryBatchPublishBuilder withContextInformation(
+            final @NotNull String key,
+            final @NotNull String value) {
+        if (contextInformation == null) {
+            contextInformation = new HashMap<>();
+        }
+        contextInformation.put(key, value);
+        return this;
+    }
+
+    @Override
+    public @NotNull InMemoryBatchPublishBuilder withAdapter(final @NotNull ProtocolAdapter adapter) {
+        return this;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public @NotNull CompletableFuture<ProtocolBatchPublishResult> send() {
+        deliver(false);
+        final byte[] results = new byte[size];
+        Arrays.fill(results, (byte) ProtocolPublishResult.DELIVERED.getId());
+        return CompletableFuture.completedFuture(new ProtocolBatchPublishResult(results));
+    }
+
+    @Override
+    public void sendAndForget() {
+        deliver(true);
+    }
+
+    private void deliver(final boolean copyPayloads) {
+        for (int i = 0; i < size; i++) {
+            final ProtocolAdapterPayloadBuffer payloadBuffer = payloadBuffers[i];
+            if (payloadBuffer != null) {
+                publishService.deliver(topics[i], payloads[i], qos, retain, messageExpiryInterval);
+                payloadBuffer.release();
+            } else {
+                // the caller may reuse the buffers once sendAndForget returned, so they must be copied like Edge does
+                final ByteBuffer payload = copyPayloads ? InMemoryPublishBuilder.copy(payloads[i]) : payloads[i];
+                publishService.deliver(topics[i], payload, qos, retain, messageExpiryInterval);
+            }
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.hivemq.adapter.sdk.api.data.DataPoint;
+import com.hivemq.adapter.sdk.api.datapoint.DataPointBuilder;
+import com.hivemq.adapter.sdk.api.datapoint.DataPointListBuilder;
+import com.hivemq.adapter.sdk.api.schema.ScalarType;
+import com.hivemq.adapter.sdk.api.tag.Tag;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+
+/**
+ * Reference {@link DataPointBuilder} keeping primitive values unboxed in a {@link MutableScalarDataPoint}.
+ * Instances are reused by a reusable {@link InMemoryDataPointListBuilder}.
+ */
+final class InMemoryDataPointBuilder implements DataPointBuilder<DataPointListBuilder> {
+
+    private final @NotNull InMemoryDataPointListBuilder parent;
+    private final @NotNull MutableScalarDataPoint scalarDataPoint = new MutableScalarDataPoint();
+    private final @NotNull MutableDataPoint dataPoint = new MutableDataPoint();
+    private @NotNull String tagName = "";
+    private @Nullable DataPoint current;
+    private @Nullable ObjectNode metadata;
+    private @Nullable ObjectNode context;
+    private long timestamp;
+
+    InMemoryDataPointBuilder(final @NotNull InMemoryDataPointListBuilder parent) {
+        this.parent = parent;
+    }
+
+    @NotNull InMemoryDataPointBuilder start(final @NotNull Tag tag) {
+        tagName = tag.getName();
+        current = null;
+        metadata = null;
+        context = null;
+        timestamp = 0;
+        return this;
+    }
+
+    private @NotNull InMemoryDataPointBuilder scalar(final @NotNull ScalarType scalarType, final long value) {
+        scalarDataPoint.setLong(tagName, scalarType, value);
+        current = scalarDataPoint;
+        return this;
+    }
+
+    private @NotNull InMemoryDataPointBuilder object(final @NotNull Object value, final boolean json) {
+        dataPoint.set(tagName, value, json);
+        current = dataPoint;
+        return this;
+    }
+
+    @Override
+    public @NotNull InMemoryDataPointBuilder value(final boolean value) {
+        scalarDataPoint.setBoolean(tagName, value);
+        current = scalarDataPoint;
+        return this;
+    }
+
+    @Override
+    public @NotNull InMemoryDataPointBuilder value(final byte value) {
+        return scalar(ScalarType.LONG, value);
+    }
+
+    @Override
+    public @NotNull InMemoryDataPointBuilder value(final short value) {
+        return scalar(ScalarType.LONG, value);
+    }
+
+    @Override
+    public @NotNull InMemoryDataPointBuilder value(final int value) {
+        return scalar(ScalarType.LONG, value);
+    }
+
+    @Override
+    public @NotNull InMemoryDataPointBuilder value(final long value) {
+        return scalar(ScalarType.LONG, value);
+    }
+
+    @Override
+    public @NotNull InMemoryDataPointBuilder value(final float value) {
+        return value((double) value);
+    }
+
+    @Override
+    public @NotNull InMemoryDataPointBuilder value(final double value) {
+        scalarDataPoint.setDouble(tagName, value);
+        current = scalarDataPoint;
+        return this;
+    }
+
+    @Override
+    public @NotNull InMemoryDataPointBuilder value(final @NotNull String value) {
+        return object(value, false);
+    }
+
+    @Override
+    public @NotNull InMemoryDataPointBuilder value(final byte @NotNull [] value) {
+        return object(value, false);
+    }
+
+    @Override
+    public @NotNull InMemoryDataPointBuilder value(final @NotNull BigDecimal value) {
+        return object(value, false);
+    }
+
+    @Override
+    public @NotNull InMemoryDataPointBuilder value(final @NotNull BigInteger value) {
+        return object(value, false);
+    }
+
+    @Override
+    public @NotNull InMemoryDataPointBuilder value(final @NotNull JsonNode value) {
+        return object(value, true);
+    }
+
+    @Override
+    public @NotNull InMemoryDataPointBuilder valueNull() {
+        return object(NullNode.getInstance(), true);
+    }
+
+    @Override
+    public @NotNull ObjectBuilder<DataPointBuilder<DataPointListBuilder>> startObjectValue() {
+        final ObjectNode node = JsonNodeFactory.instance.objectNode();
+        object(node, true);
+        return new JsonObjectBuilder<>(this, node);
+    }
+
+    @Override
+    public @NotNull ArrayBuilder<DataPointBuilder<DataPointListBuilder>> startArrayValue() {
+        final ArrayNode node = JsonNodeFactory.instance.arrayNode();
+        object(node, true);
+        return new JsonArrayBuilder<>(this, node);
+    }
+
+    @Override
+    public @NotNull ObjectBuilder<DataPointBuilder<DataPointListBuilder>> startObjectMetadata() {
+        metadata = JsonNodeFactory.instance.objectNode();
+        return new JsonObjectBuilder<>(this, metadata);
+    }
+
+    @Override
+    public @NotNull ObjectBuilder<DataPointBuilder<DataPointListBuilder>> startObjectContext() {
+        context = JsonNodeFactory.instance.objectNode();
+        return new JsonObjectBuilder<>(this, context);
+    }
+
+    @Override
+    public @NotNull InMemoryDataPointBuilder timestamp(final long epochMillis) {
+        timestamp = epochMillis;
+        return this;
+    }
+
+    @Override
+    public @NotNull InMemoryDataPointBuilder timestamp(final @NotNull Instant instant) {
+        return timestamp(instant.toEpochMilli());
+    }
+
+    @Override
+    public @NotNull DataPointListBuilder endDataPoint() {
+        if (current == null) {
+            throw new IllegalStateException("No value was set for tag " + tagName);
+        }
+        scalarDataPoint.setTimestamp(timestamp);
+        dataPoint.setTimestamp(timestamp);
+        parent.add(current);
+        return parent;
+    }
+}
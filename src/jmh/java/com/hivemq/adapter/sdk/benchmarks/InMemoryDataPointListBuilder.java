@@ -0,0 +1,116 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.benchmarks;
+
+import com.hivemq.adapter.sdk.api.data.DataPoint;
+import com.hivemq.adapter.sdk.api.data.DataPointSeries;
+import com.hivemq.adapter.sdk.api.datapoint.DataPointBuilder;
+import com.hivemq.adapter.sdk.api.datapoint.DataPointListBuilder;
+import com.hivemq.adapter.sdk.api.tag.Tag;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Reference {@link DataPointListBuilder} handing the collected data points to a consumer on {@link #publish()}.
+ * <p>
+ * In reusable mode the data point builders and the list are kept across publishes, so a poll cycle with the same
+ * number of tags does not allocate.
+ */
+final class InMemoryDataPointListBuilder implements DataPointListBuilder {
+
+    private final @NotNull Consumer<List<DataPoint>> publisher;
+    private final @NotNull Consumer<DataPointSeries> seriesPublisher;
+    private final boolean reusable;
+    private final @NotNull ArrayList<DataPoint> dataPoints;
+    private final @NotNull ArrayList<DataPointSeries> series = new ArrayList<>();
+    private @NotNull InMemoryDataPointBuilder @NotNull [] builders;
+    private int builderCount;
+
+    InMemoryDataPointListBuilder(
+            final @NotNull Consumer<List<DataPoint>> publisher,
+            final int expectedDataPoints,
+            final boolean reusable) {
+        this(publisher, series -> {}, expectedDataPoints, reusable);
+    }
+
+    InMemoryDataPointListBuilder(
+            final @NotNull Consumer<List<DataPoint>> publisher,
+            final @NotNull Consumer<DataPointSeries> seriesPublisher,
+            final int expectedDataPoints,
+            final boolean reusable) {
+        this.publisher = publisher;
+        this.seriesPublisher = seriesPublisher;
+        this.reusable = reusable;
+        this.dataPoints = new ArrayList<>(expectedDataPoints);
+        this.builders = new InMemoryDataPointBuilder[reusable ? expectedDataPoints : 0];
+        for (int i = 0; i < builders.length; i++) {
+            builders[i] = new InMemoryDataPointBuilder(this);
+        }
+    }
+
+    @Override
+    public @NotNull DataPointBuilder<DataPointListBuilder> addDataPoint(final @NotNull Tag tag) {
+        if (!reusable) {
+            return new InMemoryDataPointBuilder(this).start(tag);
+        }
+        if (builderCount == builders.length) {
+            final int oldLength = builders.length;
+            builders = Arrays.copyOf(builders, Math.max(8, oldLength * 2));
+            for (int i = oldLength; i < builders.length; i++) {
+                builders[i] = new InMemoryDataPointBuilder(this);
+            }
+        }
+        return builders[builderCount++].start(tag);
+    }
+
+    @Override
+    public @NotNull DataPointListBuilder addDataPointSeries(
+            final @NotNull Tag tag,
+            final @NotNull DataPointSeries series) {
+        this.series.add(series);
+        return this;
+    }
+
+    void add(final @NotNull DataPoint dataPoint) {
+        dataPoints.add(dataPoint);
+    }
+
+    @Override
+    public void publish() {
+        publisher.accept(dataPoints);
+        for (final DataPointSeries dataPointSeries : series) {
+            seriesPublisher.accept(dataPointSeries);
+        }
+        reset();
+    }
+
+    @Override
+    public boolean tryPublish() {
+        publish();
+        return true;
+    }
+
+    @Override
+    public void reset() {
+        dataPoints.clear();
+        series.clear();
+        builderCount = 0;
+    }
+}
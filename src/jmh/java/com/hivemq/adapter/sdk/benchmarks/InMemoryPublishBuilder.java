@@ -0,0 +1,178 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.benchmarks;
+
+import com.hivemq.adapter.sdk.api.ProtocolAdapter;
+import com.hivemq.adapter.sdk.api.ProtocolAdapterPayloadBuffer;
+import com.hivemq.adapter.sdk.api.ProtocolAdapterPublishBuilder;
+import com.hivemq.adapter.sdk.api.ProtocolPublishCallback;
+import com.hivemq.adapter.sdk.api.ProtocolPublishResult;
+import com.hivemq.adapter.sdk.api.TopicHandle;
+import com.hivemq.adapter.sdk.api.UserPropertiesHandle;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Reference {@link ProtocolAdapterPublishBuilder} that completes every publish immediately as delivered.
+ */
+final class InMemoryPublishBuilder implements ProtocolAdapterPublishBuilder {
+
+    private final @NotNull InMemoryPublishService publishService;
+    private @Nullable String topic;
+    private @Nullable ByteBuffer payload;
+    private @Nullable ProtocolAdapterPayloadBuffer payloadBuffer;
+    private @Nullable List<String> userProperties;
+    private @Nullable UserPropertiesHandle userPropertiesHandle;
+    private @Nullable Map<String, String> contextInformation;
+    private int qos;
+    private long messageExpiryInterval = Long.MAX_VALUE;
+    private boolean retain;
+    private boolean storeAndForward;
+
+    InMemoryPublishBuilder(final @NotNull InMemoryPublishService publishService) {
+        this.publishService = publishService;
+    }
+
+    @Override
+    public @NotNull InMemoryPublishBuilder withTopic(final @NotNull String mqttTopic) {
+        topic = mqttTopic;
+        return this;
+    }
+
+    @Override
+    public @NotNull InMemoryPublishBuilder withTopic(final @NotNull TopicHandle topicHandle) {
+        topic = topicHandle.getTopic();
+        return this;
+    }
+
+    @Override
+    public @NotNull InMemoryPublishBuilder withPayload(final byte @NotNull [] payload) {
+        return withPayload(ByteBuffer.wrap(payload));
+    }
+
+    @Override
+    public @NotNull InMemoryPublishBuilder withPayload(final @NotNull ByteBuffer payload) {
+        this.payload = payload;
+        return this;
+    }
+
+    @Override
+    public @NotNull InMemoryPublishBuilder withPayload(final @NotNull ProtocolAdapterPayloadBuffer payload) {
+        this.payloadBuffer = payload;
+        this.payload = payload.buffer();
+        return this;
+    }
+
+    @Override
+    public @NotNull InMemoryPublishBuilder withQoS(final int qos) {
+        this.qos = qos;
+        return this;
+    }
+
+    @Override
+    public @NotNull InMemoryPublishBuilder withMessageExpiryInterval(final long messageExpiryInterval) {
+        this.messageExpiryInterval = messageExpiryInterval;
+        return this;
+    }
+
+    @Override
+    public @NotNull InMemoryPublishBuilder withUserProperty(final @NotNull String name, final @NotNull String value) {
+        if (userProperties == null) {
+            userProperties = new ArrayList<>();
+        }
+        userProperties.add(name);
+        userProperties.add(value);
+        return this;
+    }
+
+    @Override
+    public @NotNull InMemoryPublishBuilder withUserProperties(final @NotNull UserPropertiesHandle userProperties) {
+        this.userPropertiesHandle = userProperties;
+        return this;
+    }
+
+    @Override
+    public @NotNull InMemoryPublishBuilder withRetain(final boolean retained) {
+        this.retain = retained;
+        return this;
+    }
+
+    @Override
+    public @NotNull InMemoryPublishBuilder withStoreAndForward(final boolean storeAndForward) {
+        this.storeAndForward = storeAndForward;
+        return this;
+    }
+
+    @Override
+    public @NotNull InMemoryPublishBuilder withContextInformation(
+            final @NotNull String key,
+            final @NotNull String value) {
+        if (contextInformation == null) {
+            contextInformation = new HashMap<>();
+        }
+        contextInformation.put(key, value);
+        return this;
+    }
+
+    @Override
+    public @NotNull InMemoryPublishBuilder withAdapter(final @NotNull ProtocolAdapter adapter) {
+        return this;
+    }
+
+    @Override
+    public @NotNull CompletableFuture<ProtocolPublishResult> send() {
+        deliver(false);
+        return CompletableFuture.completedFuture(ProtocolPublishResult.DELIVERED);
+    }
+
+    @Override
+    public void send(final @NotNull ProtocolPublishCallback callback, final long correlationId) {
+        deliver(false);
+        callback.onPublishResult(ProtocolPublishResult.DELIVERED, correlationId);
+    }
+
+    @Override
+    public void sendAndForget() {
+        deliver(true);
+    }
+
+    private void deliver(final boolean copyPayload) {
+        if (topic == null || payload == null) {
+            throw new IllegalStateException("Topic and payload must be set");
+        }
+        if (payloadBuffer != null) {
+            publishService.deliver(topic, payload, qos, retain, messageExpiryInterval);
+            payloadBuffer.release();
+        } else {
+            // the caller may reuse the buffer once sendAndForget returned, so it must be copied like Edge does
+            final ByteBuffer deliveredPayload = copyPayload ? copy(payload) : payload;
+            publishService.deliver(topic, deliveredPayload, qos, retain, messageExpiryInterval);
+        }
+    }
+
+    static @NotNull ByteBuffer copy(final @NotNull ByteBuffer payload) {
+        final ByteBuffer copy = ByteBuffer.allocate(payload.remaining());
+        copy.put(payload.duplicate());
+        return copy.flip();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.benchmarks;
+
+import com.hivemq.adapter.sdk.api.ProtocolAdapterBatchPublishBuilder;
+import com.hivemq.adapter.sdk.api.ProtocolAdapterPublishBuilder;
+import com.hivemq.adapter.sdk.api.TopicHandle;
+import com.hivemq.adapter.sdk.api.UserPropertiesHandle;
+import com.hivemq.adapter.sdk.api.config.MqttUserProperty;
+import com.hivemq.adapter.sdk.api.services.ProtocolAdapterPublishService;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reference {@link ProtocolAdapterPublishService} that only counts the delivered publishes and payload bytes.
+ */
+final class InMemoryPublishService implements ProtocolAdapterPublishService {
+
+    private final @NotNull Map<String, InMemoryTopicHandle> topicHandles = new HashMap<>();
+    private long publishCount;
+    private long byteCount;
+
+    @Override
+    public @NotNull ProtocolAdapterPublishBuilder createPublish() {
+        return new InMemoryPublishBuilder(this);
+    }
+
+    @Override
+    public @NotNull ProtocolAdapterBatchPublishBuilder createBatchPublish() {
+        return new InMemoryBatchPublishBuilder(this, 16);
+    }
+
+    @Override
+    public @NotNull TopicHandle registerTopic(final @NotNull String mqttTopic) {
+        if (mqttTopic.isEmpty() || mqttTopic.indexOf('#') >= 0 || mqttTopic.indexOf('+') >= 0) {
+            throw new IllegalArgumentException("Invalid topic to publish to: " + mqttTopic);
+        }
+        return topicHandles.computeIfAbsent(mqttTopic, InMemoryTopicHandle::new);
+    }
+
+    @Override
+    public @NotNull UserPropertiesHandle registerUserProperties(final @NotNull List<MqttUserProperty> userProperties) {
+        return new InMemoryUserPropertiesHandle(userProperties);
+    }
+
+    void deliver(
+            final @NotNull String topic,
+            final @NotNull ByteBuffer payload,
+            final int qos,
+            final boolean retain,
+            final long messageExpiryInterval) {
+        publishCount++;
+        byteCount += payload.remaining();
+    }
+
+    long getPublishCount() {
+        return publishCount;
+    }
+
+    long getByteCount() {
+        return byteCount;
+    }
+}
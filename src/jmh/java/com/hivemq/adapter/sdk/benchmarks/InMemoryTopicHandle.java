@@ -0,0 +1,36 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.benchmarks;
+
+import com.hivemq.adapter.sdk.api.TopicHandle;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Reference {@link TopicHandle} returning the registered topic.
+ */
+final class InMemoryTopicHandle implements TopicHandle {
+
+    private final @NotNull String topic;
+
+    InMemoryTopicHandle(final @NotNull String topic) {
+        this.topic = topic;
+    }
+
+    @Override
+    public @NotNull String getTopic() {
+        return topic;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.benchmarks;
+
+import com.hivemq.adapter.sdk.api.UserPropertiesHandle;
+import com.hivemq.adapter.sdk.api.config.MqttUserProperty;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Reference {@link UserPropertiesHandle} holding an immutable copy of the registered user properties.
+ */
+final class InMemoryUserPropertiesHandle implements UserPropertiesHandle {
+
+    private final @NotNull List<MqttUserProperty> userProperties;
+
+    InMemoryUserPropertiesHandle(final @NotNull List<MqttUserProperty> userProperties) {
+        this.userProperties = List.copyOf(userProperties);
+    }
+
+    @Override
+    public @NotNull List<MqttUserProperty> getUserProperties() {
+        return userProperties;
+    }
+}
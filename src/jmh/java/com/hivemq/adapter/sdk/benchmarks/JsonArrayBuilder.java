@@ -0,0 +1,131 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.hivemq.adapter.sdk.api.datapoint.DataPointBuilder;
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * {@link DataPointBuilder.ArrayBuilder} writing into a Jackson {@link ArrayNode}.
+ */
+final class JsonArrayBuilder<P> implements DataPointBuilder.ArrayBuilder<P> {
+
+    private final @NotNull P parent;
+    private final @NotNull ArrayNode node;
+
+    JsonArrayBuilder(final @NotNull P parent, final @NotNull ArrayNode node) {
+        this.parent = parent;
+        this.node = node;
+    }
+
+    @Override
+    public @NotNull JsonArrayBuilder<P> add(final boolean value) {
+        node.add(value);
+        return this;
+    }
+
+    @Override
+    public @NotNull JsonArrayBuilder<P> add(final byte value) {
+        node.add(value);
+        return this;
+    }
+
+    @Override
+    public @NotNull JsonArrayBuilder<P> add(final short value) {
+        node.add(value);
+        return this;
+    }
+
+    @Override
+    public @NotNull JsonArrayBuilder<P> add(final int value) {
+        node.add(value);
+        return this;
+    }
+
+    @Override
+    public @NotNull JsonArrayBuilder<P> add(final long value) {
+        node.add(value);
+        return this;
+    }
+
+    @Override
+    public @NotNull JsonArrayBuilder<P> add(final float value) {
+        node.add(value);
+        return this;
+    }
+
+    @Override
+    public @NotNull JsonArrayBuilder<P> add(final double value) {
+        node.add(value);
+        return this;
+    }
+
+    @Override
+    public @NotNull JsonArrayBuilder<P> add(final @NotNull String value) {
+        node.add(value);
+        return this;
+    }
+
+    @Override
+    public @NotNull JsonArrayBuilder<P> add(final byte @NotNull [] value) {
+        node.add(value);
+        return this;
+    }
+
+    @Override
+    public @NotNull JsonArrayBuilder<P> add(final @NotNull BigDecimal value) {
+        node.add(value);
+        return this;
+    }
+
+    @Override
+    public @NotNull JsonArrayBuilder<P> add(final @NotNull BigInteger value) {
+        node.add(value);
+        return this;
+    }
+
+    @Override
+    public @NotNull JsonArrayBuilder<P> add(final @NotNull JsonNode value) {
+        node.add(value);
+        return this;
+    }
+
+    @Override
+    public @NotNull JsonArrayBuilder<P> addNull() {
+        node.addNull();
+        return this;
+    }
+
+    @Override
+    public @NotNull JsonObjectBuilder<DataPointBuilder.ArrayBuilder<P>> startObject() {
+        return new JsonObjectBuilder<>(this, node.addObject());
+    }
+
+    @Override
+    public @NotNull JsonArrayBuilder<DataPointBuilder.ArrayBuilder<P>> startArray() {
+        return new JsonArrayBuilder<>(this, node.addArray());
+    }
+
+    @Override
+    public @NotNull P endArray() {
+        return parent;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.hivemq.adapter.sdk.api.datapoint.DataPointBuilder;
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * {@link DataPointBuilder.ObjectBuilder} writing into a Jackson {@link ObjectNode}.
+ */
+final class JsonObjectBuilder<P> implements DataPointBuilder.ObjectBuilder<P> {
+
+    private final @NotNull P parent;
+    private final @NotNull ObjectNode node;
+
+    JsonObjectBuilder(final @NotNull P parent, final @NotNull ObjectNode node) {
+        this.parent = parent;
+        this.node = node;
+    }
+
+    @Override
+    public @NotNull JsonObjectBuilder<P> put(final @NotNull String key, final boolean value) {
+        node.put(key, value);
+        return this;
+    }
+
+    @Override
+    public @NotNull JsonObjectBuilder<P> put(final @NotNull String key, final byte value) {
+        node.put(key, value);
+        return this;
+    }
+
+    @Override
+    public @NotNull JsonObjectBuilder<P> put(final @NotNull String key, final short value) {
+        node.put(key, value);
+        return this;
+    }
+
+    @Override
+    public @NotNull JsonObjectBuilder<P> put(final @NotNull String key, final int value) {
+        node.put(key, value);
+        return this;
+    }
+
+    @Override
+    public @NotNull JsonObjectBuilder<P> put(final @NotNull String key, final long value) {
+        node.put(key, value);
+        return this;
+    }
+
+    @Override
+    public @NotNull JsonObjectBuilder<P> put(final @NotNull String key, final float value) {
+        node.put(key, value);
+        return this;
+    }
+
+    @Override
+    public @NotNull JsonObjectBuilder<P> put(final @NotNull String key, final double value) {
+        node.put(key, value);
+        return this;
+    }
+
+    @Override
+    public @NotNull JsonObjectBuilder<P> put(final @NotNull String key, final @NotNull String value) {
+        node.put(key, value);
+        return this;
+    }
+
+    @Override
+    public @NotNull JsonObjectBuilder<P> put(final @NotNull String key, final byte @NotNull [] value) {
+        node.put(key, value);
+        return this;
+    }
+
+    @Override
+    public @NotNull JsonObjectBuilder<P> put(final @NotNull String key, final @NotNull BigDecimal value) {
+        node.put(key, value);
+        return this;
+    }
+
+    @Override
+    public @NotNull JsonObjectBuilder<P> put(final @NotNull String key, final @NotNull BigInteger value) {
+        node.put(key, value);
+        return this;
+    }
+
+    @Override
+    public @NotNull JsonObjectBuilder<P> put(final @NotNull String key, final @NotNull JsonNode value) {
+        node.set(key, value);
+        return this;
+    }
+
+    @Override
+    public @NotNull JsonObjectBuilder<P> putNull(final @NotNull String key) {
+        node.putNull(key);
+        return this;
+    }
+
+    @Override
+    public @NotNull JsonObjectBuilder<DataPointBuilder.ObjectBuilder<P>> startObject(final @NotNull String key) {
+        return new JsonObjectBuilder<>(this, node.putObject(key));
+    }
+
+    @Override
+    public @NotNull JsonArrayBuilder<DataPointBuilder.ObjectBuilder<P>> startArray(final @NotNull String key) {
+        return new JsonArrayBuilder<>(this, node.putArray(key));
+    }
+
+    @Override
+    public @NotNull P endObject() {
+        return parent;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hivemq.adapter.sdk.api.config.MessageHandlingOptions;
+import com.hivemq.adapter.sdk.api.config.PollingContext;
+import com.hivemq.adapter.sdk.api.data.DataPoint;
+import com.hivemq.adapter.sdk.api.data.JsonPayloadCreator;
+import com.hivemq.adapter.sdk.api.datapoint.DataPointListBuilder;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares creating payloads as byte arrays via {@link JsonPayloadCreator#convertToJson} with writing them into a
+ * reused sink via {@link JsonPayloadCreator#writeJson}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonPayloadCreatorBenchmark {
+
+    @Param({"10", "1000"})
+    public int tagCount;
+
+    @Param({"LONG", "DOUBLE", "STRING", "OBJECT"})
+    public @NotNull ValueType valueType = ValueType.LONG;
+
+    @Param({"MQTTMessagePerTag", "MQTTMessagePerSubscription"})
+    public @NotNull MessageHandlingOptions messageHandlingOptions = MessageHandlingOptions.MQTTMessagePerTag;
+
+    private final @NotNull ObjectMapper objectMapper = new ObjectMapper();
+    private final @NotNull JsonPayloadCreator payloadCreator = new ReferenceJsonPayloadCreator();
+    private final @NotNull ReusableJsonPayloadSink sink = new ReusableJsonPayloadSink(objectMapper.getFactory());
+    private final @NotNull List<DataPoint> dataPoints = new ArrayList<>();
+    private @NotNull PollingContext pollingContext =
+            new BenchmarkPollingContext("topic", MessageHandlingOptions.MQTTMessagePerTag);
+
+    @Setup
+    public void setUp() {
+        pollingContext = new BenchmarkPollingContext("plant/line/machine", messageHandlingOptions);
+        // not reusable, so every data point keeps its own value
+        final DataPointListBuilder builder = new InMemoryDataPointListBuilder(dataPoints::addAll, tagCount, false);
+        for (int i = 0; i < tagCount; i++) {
+            valueType.setValue(builder.addDataPoint(new BenchmarkTag("tag-" + i)), i, "value-" + i).endDataPoint();
+        }
+        builder.publish();
+    }
+
+    @Benchmark
+    public @NotNull List<byte[]> convertToJson() {
+        return payloadCreator.convertToJson(dataPoints, pollingContext, objectMapper);
+    }
+
+    @Benchmark
+    public long writeJson() throws IOException {
+        payloadCreator.writeJson(dataPoints, pollingContext, objectMapper, sink);
+        return sink.getByteCount();
+    }
+}
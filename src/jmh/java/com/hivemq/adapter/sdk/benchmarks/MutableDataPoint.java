@@ -0,0 +1,60 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.benchmarks;
+
+import com.hivemq.adapter.sdk.api.data.DataPoint;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * {@link DataPoint} for non-scalar values that is overwritten when its {@link InMemoryDataPointBuilder} is reused.
+ */
+final class MutableDataPoint implements DataPoint {
+
+    private @NotNull String tagName = "";
+    private @NotNull Object tagValue = "";
+    private boolean json;
+    private long timestamp;
+
+    void set(final @NotNull String tagName, final @NotNull Object tagValue, final boolean json) {
+        this.tagName = tagName;
+        this.tagValue = tagValue;
+        this.json = json;
+    }
+
+    void setTimestamp(final long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    @Override
+    public @NotNull Object getTagValue() {
+        return tagValue;
+    }
+
+    @Override
+    public boolean treatTagValueAsJson() {
+        return json;
+    }
+
+    @Override
+    public @NotNull String getTagName() {
+        return tagName;
+    }
+
+    @Override
+    public long getTimestamp() {
+        return timestamp;
+    }
+}
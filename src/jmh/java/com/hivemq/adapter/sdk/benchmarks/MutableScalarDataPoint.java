@@ -0,0 +1,93 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.benchmarks;
+
+import com.hivemq.adapter.sdk.api.data.ScalarDataPoint;
+import com.hivemq.adapter.sdk.api.schema.ScalarType;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * {@link ScalarDataPoint} that is overwritten when its {@link InMemoryDataPointBuilder} is reused.
+ */
+final class MutableScalarDataPoint implements ScalarDataPoint {
+
+    private @NotNull String tagName = "";
+    private @NotNull ScalarType scalarType = ScalarType.LONG;
+    private long longValue;
+    private double doubleValue;
+    private long timestamp;
+
+    void setLong(final @NotNull String tagName, final @NotNull ScalarType scalarType, final long value) {
+        this.tagName = tagName;
+        this.scalarType = scalarType;
+        this.longValue = value;
+    }
+
+    void setDouble(final @NotNull String tagName, final double value) {
+        this.tagName = tagName;
+        this.scalarType = ScalarType.DOUBLE;
+        this.doubleValue = value;
+    }
+
+    void setBoolean(final @NotNull String tagName, final boolean value) {
+        this.tagName = tagName;
+        this.scalarType = ScalarType.BOOLEAN;
+        this.longValue = value ? 1 : 0;
+    }
+
+    void setTimestamp(final long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    @Override
+    public @NotNull ScalarType getScalarType() {
+        return scalarType;
+    }
+
+    @Override
+    public long getLong() {
+        if (scalarType == ScalarType.DOUBLE || scalarType == ScalarType.BOOLEAN) {
+            throw new IllegalStateException("Value of tag " + tagName + " is of type " + scalarType);
+        }
+        return longValue;
+    }
+
+    @Override
+    public double getDouble() {
+        if (scalarType != ScalarType.DOUBLE) {
+            throw new IllegalStateException("Value of tag " + tagName + " is of type " + scalarType);
+        }
+        return doubleValue;
+    }
+
+    @Override
+    public boolean getBoolean() {
+        if (scalarType != ScalarType.BOOLEAN) {
+            throw new IllegalStateException("Value of tag " + tagName + " is of type " + scalarType);
+        }
+        return longValue != 0;
+    }
+
+    @Override
+    public @NotNull String getTagName() {
+        return tagName;
+    }
+
+    @Override
+    public long getTimestamp() {
+        return timestamp;
+    }
+}
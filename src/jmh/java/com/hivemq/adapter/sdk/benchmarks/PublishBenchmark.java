@@ -0,0 +1,158 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.benchmarks;
+
+import com.hivemq.adapter.sdk.api.ProtocolAdapterBatchPublishBuilder;
+import com.hivemq.adapter.sdk.api.ProtocolAdapterPayloadBuffer;
+import com.hivemq.adapter.sdk.api.ProtocolAdapterPublishBuilder;
+import com.hivemq.adapter.sdk.api.ProtocolBatchPublishResult;
+import com.hivemq.adapter.sdk.api.TopicHandle;
+import com.hivemq.adapter.sdk.api.UserPropertiesHandle;
+import com.hivemq.adapter.sdk.api.config.MqttUserProperty;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares sending publishes one by one with sending them as a batch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PublishBenchmark {
+
+    private static final int PAYLOAD_SIZE = 64;
+    private static final int USER_PROPERTY_COUNT = 8;
+
+    @Param({"1", "100", "10000"})
+    public int messageCount;
+
+    private final @NotNull InMemoryPublishService publishService = new InMemoryPublishService();
+    private @NotNull String @NotNull [] topics = new String[0];
+    private @NotNull TopicHandle @NotNull [] topicHandles = new TopicHandle[0];
+    private @NotNull ByteBuffer @NotNull [] payloads = new ByteBuffer[0];
+    private @NotNull List<MqttUserProperty> userProperties = List.of();
+    private @NotNull UserPropertiesHandle userPropertiesHandle = publishService.registerUserProperties(List.of());
+
+    @Setup
+    public void setUp() {
+        topics = new String[messageCount];
+        topicHandles = new TopicHandle[messageCount];
+        payloads = new ByteBuffer[messageCount];
+        final List<MqttUserProperty> properties = new ArrayList<>(USER_PROPERTY_COUNT);
+        for (int i = 0; i < USER_PROPERTY_COUNT; i++) {
+            properties.add(new MqttUserProperty("property-" + i, "value-" + i));
+        }
+        userProperties = properties;
+        userPropertiesHandle = publishService.registerUserProperties(properties);
+        final ByteBuffer shared = ByteBuffer.allocateDirect(messageCount * PAYLOAD_SIZE);
+        for (int i = 0; i < messageCount; i++) {
+            topics[i] = "plant/line/machine/tag-" + i;
+            topicHandles[i] = publishService.registerTopic(topics[i]);
+            payloads[i] = shared.slice(i * PAYLOAD_SIZE, PAYLOAD_SIZE);
+        }
+    }
+
+    @Benchmark
+    public void publishEach(final @NotNull Blackhole blackhole) {
+        for (int i = 0; i < messageCount; i++) {
+            blackhole.consume(publishService.createPublish()
+                    .withTopic(topics[i])
+                    .withPayload(payloads[i])
+                    .withQoS(0)
+                    .send());
+        }
+    }
+
+    @Benchmark
+    public void publishEachAndForget() {
+        for (int i = 0; i < messageCount; i++) {
+            publishService.createPublish().withTopic(topics[i]).withPayload(payloads[i]).withQoS(0).sendAndForget();
+        }
+    }
+
+    @Benchmark
+    public void publishEachAndForgetWithPayloadBuffer() {
+        for (int i = 0; i < messageCount; i++) {
+            publishService.createPublish()
+                    .withTopic(topics[i])
+                    .withPayload(ProtocolAdapterPayloadBuffer.of(payloads[i], buffer -> {}))
+                    .withQoS(0)
+                    .sendAndForget();
+        }
+    }
+
+    @Benchmark
+    public void publishEachWithUserProperties(final @NotNull Blackhole blackhole) {
+        for (int i = 0; i < messageCount; i++) {
+            final ProtocolAdapterPublishBuilder publish =
+                    publishService.createPublish().withTopic(topics[i]).withPayload(payloads[i]).withQoS(0);
+            for (final MqttUserProperty userProperty : userProperties) {
+                publish.withUserProperty(userProperty.getName(), userProperty.getValue());
+            }
+            blackhole.consume(publish.send());
+        }
+    }
+
+    @Benchmark
+    public void publishEachWithUserPropertiesHandle(final @NotNull Blackhole blackhole) {
+        for (int i = 0; i < messageCount; i++) {
+            blackhole.consume(publishService.createPublish()
+                    .withTopic(topics[i])
+                    .withPayload(payloads[i])
+                    .withQoS(0)
+                    .withUserProperties(userPropertiesHandle)
+                    .send());
+        }
+    }
+
+    @Benchmark
+    public @NotNull CompletableFuture<ProtocolBatchPublishResult> publishBatch() {
+        final ProtocolAdapterBatchPublishBuilder batch = publishService.createBatchPublish().withQoS(0);
+        for (int i = 0; i < messageCount; i++) {
+            batch.add(topics[i], payloads[i]);
+        }
+        return batch.send();
+    }
+
+    @Benchmark
+    public @NotNull CompletableFuture<ProtocolBatchPublishResult> publishBatchWithTopicHandles() {
+        final ProtocolAdapterBatchPublishBuilder batch = publishService.createBatchPublish().withQoS(0);
+        for (int i = 0; i < messageCount; i++) {
+            batch.add(topicHandles[i], payloads[i]);
+        }
+        return batch.send();
+    }
+}
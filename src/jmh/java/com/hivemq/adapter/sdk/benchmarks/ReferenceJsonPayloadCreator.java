@@ -0,0 +1,83 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.benchmarks;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.hivemq.adapter.sdk.api.config.MessageHandlingOptions;
+import com.hivemq.adapter.sdk.api.config.PollingContext;
+import com.hivemq.adapter.sdk.api.data.DataPoint;
+import com.hivemq.adapter.sdk.api.data.JsonPayloadSink;
+import com.hivemq.adapter.sdk.api.data.ScalarDataPoint;
+import com.hivemq.adapter.sdk.api.data.StreamingJsonPayloadCreator;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Reference payload creator writing {@code {"timestamp":..., "tagName":..., "value":...}} per data point, either as
+ * one payload per tag or as an array of these objects in a single payload.
+ */
+final class ReferenceJsonPayloadCreator implements StreamingJsonPayloadCreator {
+
+    @Override
+    public void writeJson(
+            final @NotNull List<DataPoint> dataPoints,
+            final @NotNull PollingContext pollingContext,
+            final @NotNull JsonPayloadSink sink) throws IOException {
+        final long timestamp = System.currentTimeMillis();
+        if (pollingContext.getMessageHandlingOptions() == MessageHandlingOptions.MQTTMessagePerTag) {
+            for (final DataPoint dataPoint : dataPoints) {
+                writeDataPoint(sink.startPayload(), dataPoint, pollingContext, timestamp);
+                sink.endPayload();
+            }
+        } else {
+            final JsonGenerator generator = sink.startPayload();
+            generator.writeStartArray();
+            for (final DataPoint dataPoint : dataPoints) {
+                writeDataPoint(generator, dataPoint, pollingContext, timestamp);
+            }
+            generator.writeEndArray();
+            sink.endPayload();
+        }
+    }
+
+    private static void writeDataPoint(
+            final @NotNull JsonGenerator generator,
+            final @NotNull DataPoint dataPoint,
+            final @NotNull PollingContext pollingContext,
+            final long timestamp) throws IOException {
+        generator.writeStartObject();
+        if (pollingContext.getIncludeTimestamp()) {
+            generator.writeNumberField("timestamp", timestamp);
+        }
+        if (pollingContext.getIncludeTagNames()) {
+            generator.writeStringField("tagName", dataPoint.getTagName());
+        }
+        generator.writeFieldName("value");
+        if (dataPoint instanceof final ScalarDataPoint scalar) {
+            switch (scalar.getScalarType()) {
+                case BOOLEAN -> generator.writeBoolean(scalar.getBoolean());
+                case DOUBLE -> generator.writeNumber(scalar.getDouble());
+                case ULONG -> generator.writeNumber(Long.toUnsignedString(scalar.getLong()));
+                default -> generator.writeNumber(scalar.getLong());
+            }
+        } else {
+            generator.writeObject(dataPoint.getTagValue());
+        }
+        generator.writeEndObject();
+    }
+}
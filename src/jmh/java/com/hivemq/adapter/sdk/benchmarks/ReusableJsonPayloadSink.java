@@ -0,0 +1,74 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.benchmarks;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.hivemq.adapter.sdk.api.data.JsonPayloadSink;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * {@link JsonPayloadSink} writing all payloads into the same reused buffer, standing in for the pooled buffers of
+ * HiveMQ Edge. Only the number of payloads and bytes is kept.
+ */
+final class ReusableJsonPayloadSink implements JsonPayloadSink {
+
+    private final @NotNull JsonFactory jsonFactory;
+    private final @NotNull ByteArrayOutputStream buffer = new ByteArrayOutputStream(4096);
+    private @Nullable JsonGenerator generator;
+    private long payloadCount;
+    private long byteCount;
+
+    ReusableJsonPayloadSink(final @NotNull JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    @Override
+    public @NotNull JsonGenerator startPayload() throws IOException {
+        buffer.reset();
+        generator = jsonFactory.createGenerator(buffer);
+        return generator;
+    }
+
+    @Override
+    public void endPayload() throws IOException {
+        if (generator == null) {
+            throw new IllegalStateException("No payload was started");
+        }
+        generator.close();
+        generator = null;
+        payloadCount++;
+        byteCount += buffer.size();
+    }
+
+    @Override
+    public void writePayload(final byte @NotNull [] payload) {
+        payloadCount++;
+        byteCount += payload.length;
+    }
+
+    long getPayloadCount() {
+        return payloadCount;
+    }
+
+    long getByteCount() {
+        return byteCount;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.benchmarks;
+
+import com.hivemq.adapter.sdk.api.datapoint.DataPointBuilder;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The kinds of values used by the benchmarks.
+ */
+enum ValueType {
+    LONG,
+    DOUBLE,
+    BOOLEAN,
+    STRING,
+    OBJECT;
+
+    <R> @NotNull DataPointBuilder<R> setValue(
+            final @NotNull DataPointBuilder<R> builder,
+            final int index,
+            final @NotNull String stringValue) {
+        return switch (this) {
+            case LONG -> builder.value((long) index);
+            case DOUBLE -> builder.value(index * 0.5);
+            case BOOLEAN -> builder.value((index & 1) == 0);
+            case STRING -> builder.value(stringValue);
+            case OBJECT -> builder.startObjectValue().put("index", index).put("value", index * 0.5).endObject();
+        };
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.api;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Builder to send many publishes to HiveMQ Edge at once.
+ * <p>
+ * In contrast to {@link ProtocolAdapterPublishBuilder}, a single builder instance and a single future are used for all
+ * entries of the batch. QoS, message expiry, retain flag, user properties and context information apply to every
+ * entry of the batch.
+ */
+@SuppressWarnings("unused")
+public interface ProtocolAdapterBatchPublishBuilder {
+
+    /**
+     * Adds a publish to this batch.
+     * <p>
+     * The remaining bytes of the buffer (from its position to its limit) are used as payload. Neither the position
+     * nor the limit of the buffer are changed, so slices of a single shared buffer can be added. The content of the
+     * buffer MUST NOT be modified until the future returned by {@link #send()} is completed or until
+     * {@link #sendAndForget()} returned.
+     *
+     * @param mqttTopic the mqtt topic of the publish
+     * @param payload   the payload of the publish
+     * @return the builder for fluent API
+     */
+    @NotNull ProtocolAdapterBatchPublishBuilder add(@NotNull String mqttTopic, @NotNull ByteBuffer payload);
+
+    /**
+     * Adds a publish to this batch.
+     *
+     * @param mqttTopic the mqtt topic of the publish
+     * @param payload   the payload of the publish
+     * @return the builder for fluent API
+     */
+    @NotNull ProtocolAdapterBatchPublishBuilder add(@NotNull String mqttTopic, byte @NotNull [] payload);
+
+    /**
+     * Adds a publish to this batch and hands the ownership of the buffer over to HiveMQ Edge once {@link #send()} or
+     * {@link #sendAndForget()} is entered. From then on HiveMQ Edge calls
+     * {@link ProtocolAdapterPayloadBuffer#release()} on every path: after the publish was processed, if the publish
+     * failed and also if the send method throws. If the builder is dropped without calling a send method, the adapter
+     * keeps the ownership and has to release the buffer itself.
+     *
+     * @param mqttTopic the mqtt topic of the publish
+     * @param payload   the payload of the publish
+     * @return the builder for fluent API
+     */
+    @NotNull ProtocolAdapterBatchPublishBuilder add(
+            @NotNull String mqttTopic,
+            @NotNull ProtocolAdapterPayloadBuffer payload);
+
+    /**
+     * Adds a publish to a registered topic to this batch, see {@link #add(String, ByteBuffer)}.
+     *
+     * @param topicHandle the registered mqtt topic of the publish
+     * @param payload     the payload of the publish
+     * @return the builder for fluent API
+     */
+    @NotNull ProtocolAdapterBatchPublishBuilder add(@NotNull TopicHandle topicHandle, @NotNull ByteBuffer payload);
+
+    /**
+     * Adds a publish to a registered topic to this batch.
+     *
+     * @param topicHandle the registered mqtt topic of the publish
+     * @param payload     the payload of the publish
+     * @return the builder for fluent API
+     */
+    @NotNull ProtocolAdapterBatchPublishBuilder add(@NotNull TopicHandle topicHandle, byte @NotNull [] payload);
+
+    /**
+     * Adds a publish to a registered topic to this batch, see {@link #add(String, ProtocolAdapterPayloadBuffer)}.
+     *
+     * @param topicHandle the registered mqtt topic of the publish
+     * @param payload     the payload of the publish
+     * @return the builder for fluent API
+     */
+    @NotNull ProtocolAdapterBatchPublishBuilder add(
+            @NotNull TopicHandle topicHandle,
+            @NotNull ProtocolAdapterPayloadBuffer payload);
+
+    /**
+     * @param qos the qos of all publishes in this batch
+     * @return the builder for fluent API
+     */
+    @NotNull ProtocolAdapterBatchPublishBuilder withQoS(int qos);
+
+    /**
+     * @param messageExpiryInterval the message expiry of all publishes in this batch
+     * @return the builder for fluent API
+     */
+    @NotNull ProtocolAdapterBatchPublishBuilder withMessageExpiryInterval(long messageExpiryInterval);
+
+    /**
+     * Adds a user property to all publishes in this batch
+     * @param name the name of the user property
+     * @param value the value of the user property
+     * @return the builder for fluent API
+     */
+    @NotNull ProtocolAdapterBatchPublishBuilder withUserProperty(@NotNull String name, @NotNull String value);
+
+    /**
+     * Adds the registered user properties to all publishes in this batch.
+     * Can be combined with {@link #withUserProperty(String, String)}.
+     * @param userProperties the registered user properties
+     * @return the builder for fluent API
+     */
+    @NotNull ProtocolAdapterBatchPublishBuilder withUserProperties(@NotNull UserPropertiesHandle userProperties);
+
+    /**
+     * @param retained true: messages get published as retained messages, false: messages get published as normal
+     *                 publishes
+     * @return the builder for fluent API
+     */
+    @NotNull ProtocolAdapterBatchPublishBuilder withRetain(boolean retained);
+
+    /**
+     * Opts in to store-and-forward for all publishes in this batch, see
+     * {@link ProtocolAdapterPublishBuilder#withStoreAndForward(boolean)}. The result of each publish is reported at its
+     * index of the {@link ProtocolBatchPublishResult}.
+     *
+     * @param storeAndForward true: undeliverable publishes are stored and delivered later, false: undeliverable
+     *                        publishes fail
+     * @return the builder for fluent API
+     */
+    @NotNull ProtocolAdapterBatchPublishBuilder withStoreAndForward(boolean storeAndForward);
+
+    /**
+     * Adds additional information to all publishes in this batch
+     * @param key the key of the additional information
+     * @param value the value of the additional information
+     * @return the builder for fluent API
+     */
+    @NotNull ProtocolAdapterBatchPublishBuilder withContextInformation(@NotNull String key, @NotNull String value);
+
+    /**
+     * @param adapter the adapter for which the publishes get created.
+     * @return the builder for fluent API
+     */
+    @NotNull ProtocolAdapterBatchPublishBuilder withAdapter(@NotNull ProtocolAdapter adapter);
+
+    /**
+     * @return the number of publishes added to this batch so far
+     */
+    int size();
+
+    /**
+     * Sends all publishes of this batch to the edge for publishing.
+     *
+     * @return a future that completes once all publishes of the batch are processed. The result at index {@code i}
+     *         belongs to the {@code i}-th publish added to this batch.
+     */
+    @NotNull CompletableFuture<ProtocolBatchPublishResult> send();
+
+    /**
+     * Sends all publishes of this batch to the edge for publishing without reporting the results.
+     * Failed publishes are still counted via
+     * {@link com.hivemq.adapter.sdk.api.services.ProtocolAdapterMetricsService#incrementReadPublishFailure()}.
+     * <p>
+     * As no completion is signaled, payloads added as {@link ByteBuffer} or byte array are copied before this method
+     * returns, so the buffers can be reused right away. To avoid the copy, add the payloads as
+     * {@link ProtocolAdapterPayloadBuffer}, which HiveMQ Edge releases once the publishes were processed.
+     */
+    void sendAndForget();
+}
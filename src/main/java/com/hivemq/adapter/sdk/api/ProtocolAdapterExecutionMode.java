@@ -0,0 +1,35 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.api;
+
+/**
+ * Describes how the poll and write calls of an adapter behave, so HiveMQ Edge can pick suitable threads for them.
+ */
+public enum ProtocolAdapterExecutionMode {
+
+    /**
+     * The calls return quickly and signal their results asynchronously. They are executed on the shared threads of
+     * HiveMQ Edge.
+     */
+    NON_BLOCKING,
+
+    /**
+     * The calls block on I/O, e.g. because they use a synchronous vendor library. They are executed on virtual
+     * threads, limited to {@link ProtocolAdapterInformation#getMaxConcurrency()} concurrent calls per adapter instance.
+     * Note that blocking inside {@code synchronized} blocks pins the carrier thread on Java 21.
+     */
+    BLOCKING
+}
@@ -138,6 +138,26 @@ public interface ProtocolAdapterInformation {
         return EnumSet.of(ProtocolAdapterCapability.READ, ProtocolAdapterCapability.DISCOVER);
     }
 
+    /**
+     * @return whether the poll and write calls of the adapter block, see {@link ProtocolAdapterExecutionMode}.
+     */
+    default @NotNull ProtocolAdapterExecutionMode getExecutionMode() {
+        return ProtocolAdapterExecutionMode.NON_BLOCKING;
+    }
+
+    /**
+     * Polls of different {@link com.hivemq.adapter.sdk.api.config.PollingContext}s may run concurrently up to this
+     * limit, while only one poll of the same {@link com.hivemq.adapter.sdk.api.config.PollingContext} is active at a
+     * time, see {@link com.hivemq.adapter.sdk.api.polling.PollingOverrunPolicy}. A blocking call of a cancelled poll
+     * counts against this limit until it returned.
+     *
+     * @return the maximum number of concurrent poll and write calls per adapter instance for adapters with
+     *         {@link ProtocolAdapterExecutionMode#BLOCKING}.
+     */
+    default int getMaxConcurrency() {
+        return 1;
+    }
+
     /**
      * @return a UI Schema that tells Edge how to render the config in the UI.
      */
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.api;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * A payload buffer whose ownership is handed over to HiveMQ Edge when it is used for a publish.
+ * <p>
+ * Adapters that read data into pooled (e.g. direct) buffers can publish them without copying. Once the buffer is
+ * passed to {@link ProtocolAdapterPublishBuilder#withPayload(ProtocolAdapterPayloadBuffer)} and any send method of the
+ * builder is entered, HiveMQ Edge owns the buffer and calls {@link #release()} exactly once after the publish was
+ * processed, regardless of whether the delivery succeeded, failed or the send method threw. After the release the
+ * adapter may reuse the buffer.
+ */
+public interface ProtocolAdapterPayloadBuffer {
+
+    /**
+     * @return the buffer containing the payload. The remaining bytes (from position to limit) are the payload.
+     */
+    @NotNull ByteBuffer buffer();
+
+    /**
+     * Returns the buffer to its owner. Calling this method more than once has no effect.
+     */
+    void release();
+
+    /**
+     * @param buffer   the buffer containing the payload
+     * @param recycler called with the buffer once it is released, e.g. to return the buffer to a pool
+     * @return a {@link ProtocolAdapterPayloadBuffer} that hands the buffer to the recycler on release
+     */
+    static @NotNull ProtocolAdapterPayloadBuffer of(
+            final @NotNull ByteBuffer buffer,
+            final @NotNull Consumer<ByteBuffer> recycler) {
+        return new RecyclingPayloadBuffer(buffer, recycler);
+    }
+}
@@ -17,6 +17,7 @@ package com.hivemq.adapter.sdk.api;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.nio.ByteBuffer;
 import java.util.concurrent.CompletableFuture;
 
 @SuppressWarnings("unused")
@@ -28,6 +29,12 @@ public interface ProtocolAdapterPublishBuilder {
      */
     @NotNull ProtocolAdapterPublishBuilder withTopic(@NotNull String mqttTopic);
 
+    /**
+     * @param topicHandle the registered mqtt topic of the publish
+     * @return the builder for fluent API
+     */
+    @NotNull ProtocolAdapterPublishBuilder withTopic(@NotNull TopicHandle topicHandle);
+
     /**
      *
      * @param payload the payload of the publish
@@ -35,6 +42,31 @@ public interface ProtocolAdapterPublishBuilder {
      */
     @NotNull ProtocolAdapterPublishBuilder withPayload(byte @NotNull [] payload);
 
+    /**
+     * Sets the payload without copying it into a new byte array.
+     * <p>
+     * The remaining bytes of the buffer (from its position to its limit) are used as payload. Neither the position
+     * nor the limit of the buffer are changed. The content of the buffer MUST NOT be modified until the publish is
+     * done with it: until the future returned by {@link #send()} is completed, until the callback passed to
+     * {@link #send(ProtocolPublishCallback, long)} was invoked, or until {@link #sendAndForget()} returned.
+     *
+     * @param payload the payload of the publish
+     * @return the builder for fluent API
+     */
+    @NotNull ProtocolAdapterPublishBuilder withPayload(@NotNull ByteBuffer payload);
+
+    /**
+     * Sets the payload and hands the ownership of the buffer over to HiveMQ Edge once {@link #send()},
+     * {@link #send(ProtocolPublishCallback, long)} or {@link #sendAndForget()} is entered. From then on HiveMQ Edge
+     * calls {@link ProtocolAdapterPayloadBuffer#release()} on every path: after the publish was processed, if the
+     * publish failed and also if the send method throws. If the builder is dropped without calling a send method, the
+     * adapter keeps the ownership and has to release the buffer itself.
+     *
+     * @param payload the payload of the publish
+     * @return the builder for fluent API
+     */
+    @NotNull ProtocolAdapterPublishBuilder withPayload(@NotNull ProtocolAdapterPayloadBuffer payload);
+
     /**
      *
      * @param qos the qos of the publish
@@ -57,6 +89,14 @@ public interface ProtocolAdapterPublishBuilder {
      */
     @NotNull ProtocolAdapterPublishBuilder withUserProperty(@NotNull String name, @NotNull String value);
 
+    /**
+     * Adds the registered user properties to the publish.
+     * Can be combined with {@link #withUserProperty(String, String)}.
+     * @param userProperties the registered user properties
+     * @return the builder for fluent API
+     */
+    @NotNull ProtocolAdapterPublishBuilder withUserProperties(@NotNull UserPropertiesHandle userProperties);
+
     /**
      *
      * @param retained true: message gets published as a retained message, false: message gets published as a normal publish
@@ -64,6 +104,19 @@ public interface ProtocolAdapterPublishBuilder {
      */
     @NotNull ProtocolAdapterPublishBuilder withRetain(boolean retained);
 
+    /**
+     * Opts in to store-and-forward for the publish. If HiveMQ Edge can not deliver the publish, e.g. because it is
+     * overloaded or restarting, the publish is appended to a bounded persistent store instead of failing and its result
+     * is {@link ProtocolPublishResult#BUFFERED}. Stored publishes are delivered in order once delivery is possible
+     * again. Publishes whose message expiry interval elapsed while stored are discarded instead of delivered. If the
+     * store is full, the result is {@link ProtocolPublishResult#FAILED}.
+     *
+     * @param storeAndForward true: undeliverable publishes are stored and delivered later, false: undeliverable
+     *                        publishes fail
+     * @return the builder for fluent API
+     */
+    @NotNull ProtocolAdapterPublishBuilder withStoreAndForward(boolean storeAndForward);
+
     /**
      * Adds additional information to the publish
      * @param key the key of the additional information
@@ -85,5 +138,26 @@ public interface ProtocolAdapterPublishBuilder {
      */
     @NotNull CompletableFuture<ProtocolPublishResult> send();
 
+    /**
+     * Sends the publish to the edge for publishing and notifies the callback about the result instead of completing a
+     * future. The correlation id is passed back to the callback unchanged, so a callback shared by all publishes can
+     * tell which publish the result belongs to. A payload set via {@link #withPayload(ByteBuffer)} can be reused once
+     * the callback was invoked with its correlation id.
+     * @param callback      the callback to notify, can be shared by all publishes
+     * @param correlationId an id chosen by the adapter that identifies this publish, e.g. the index of its buffer
+     */
+    void send(@NotNull ProtocolPublishCallback callback, long correlationId);
+
+    /**
+     * Sends the publish to the edge for publishing without reporting the result, e.g. for QoS 0 telemetry.
+     * Failed publishes are still counted via
+     * {@link com.hivemq.adapter.sdk.api.services.ProtocolAdapterMetricsService#incrementReadPublishFailure()}.
+     * <p>
+     * As no completion is signaled, a payload set via {@link #withPayload(ByteBuffer)} or {@link #withPayload(byte[])}
+     * is copied before this method returns, so the buffer can be reused right away. To avoid the copy, pass the payload
+     * as {@link ProtocolAdapterPayloadBuffer}, which HiveMQ Edge releases once the publish was processed.
+     */
+    void sendAndForget();
+
 
 }
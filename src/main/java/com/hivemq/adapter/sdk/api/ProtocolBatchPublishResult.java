@@ -0,0 +1,82 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.api;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The results of a publish batch sent via {@link ProtocolAdapterBatchPublishBuilder#send()}.
+ * <p>
+ * The results are stored as the ids of {@link ProtocolPublishResult} in a single byte array, the result at index
+ * {@code i} belongs to the {@code i}-th publish added to the batch.
+ */
+public final class ProtocolBatchPublishResult {
+
+    private final byte @NotNull [] resultIds;
+
+    /**
+     * @param resultIds the ids of the {@link ProtocolPublishResult} per publish. The array is not copied, so it MUST
+     *                  NOT be modified afterwards.
+     */
+    public ProtocolBatchPublishResult(final byte @NotNull [] resultIds) {
+        this.resultIds = resultIds;
+    }
+
+    /**
+     * @return the number of publishes in the batch
+     */
+    public int size() {
+        return resultIds.length;
+    }
+
+    /**
+     * @param index the index of the publish in the batch
+     * @return the id of the {@link ProtocolPublishResult} for the publish at the given index
+     */
+    public int getId(final int index) {
+        return resultIds[index];
+    }
+
+    /**
+     * @param index the index of the publish in the batch
+     * @return the result for the publish at the given index
+     */
+    public @NotNull ProtocolPublishResult get(final int index) {
+        return ProtocolPublishResult.valueOf(resultIds[index]);
+    }
+
+    /**
+     * @param result the result to count
+     * @return the number of publishes in the batch that have the given result
+     */
+    public int count(final @NotNull ProtocolPublishResult result) {
+        final int id = result.getId();
+        int count = 0;
+        for (final byte resultId : resultIds) {
+            if (resultId == id) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return true if the delivery of at least one publish in the batch failed
+     */
+    public boolean hasFailures() {
+        return count(ProtocolPublishResult.FAILED) > 0;
+    }
+}
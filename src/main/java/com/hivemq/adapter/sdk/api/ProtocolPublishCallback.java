@@ -0,0 +1,38 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.api;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Listener for the result of a publish sent via
+ * {@link ProtocolAdapterPublishBuilder#send(ProtocolPublishCallback, long)}.
+ * <p>
+ * A single callback instance can be used for all publishes of an adapter, so no object has to be allocated per
+ * publish. The correlation id passed to {@code send} is handed back with the result, so the callback can tell which
+ * publish completed, e.g. to reuse its payload buffer. It may be invoked concurrently from threads of HiveMQ Edge and
+ * must not block.
+ */
+@FunctionalInterface
+public interface ProtocolPublishCallback {
+
+    /**
+     * @param result        the result of the publish, {@link ProtocolPublishResult#FAILED} if the publish failed
+     *                      exceptionally
+     * @param correlationId the correlation id the publish was sent with
+     */
+    void onPublishResult(@NotNull ProtocolPublishResult result, long correlationId);
+}
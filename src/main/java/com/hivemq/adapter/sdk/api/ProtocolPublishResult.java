@@ -32,7 +32,13 @@ public enum ProtocolPublishResult {
     /**
      * the MQTT publish delivery failed
      */
-    FAILED(2);
+    FAILED(2),
+
+    /**
+     * the MQTT publish could not be delivered right now and was stored by HiveMQ Edge to be delivered later,
+     * see {@link ProtocolAdapterPublishBuilder#withStoreAndForward(boolean)}.
+     */
+    BUFFERED(3);
 
     private static final @NotNull ProtocolPublishResult @NotNull [] VALUES = values();
 
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.api;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+final class RecyclingPayloadBuffer implements ProtocolAdapterPayloadBuffer {
+
+    private final @NotNull ByteBuffer buffer;
+    private final @NotNull Consumer<ByteBuffer> recycler;
+    private final @NotNull AtomicBoolean released = new AtomicBoolean();
+
+    RecyclingPayloadBuffer(final @NotNull ByteBuffer buffer, final @NotNull Consumer<ByteBuffer> recycler) {
+        this.buffer = buffer;
+        this.recycler = recycler;
+    }
+
+    @Override
+    public @NotNull ByteBuffer buffer() {
+        return buffer;
+    }
+
+    @Override
+    public void release() {
+        if (released.compareAndSet(false, true)) {
+            recycler.accept(buffer);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.api;
+
+import com.hivemq.adapter.sdk.api.services.ProtocolAdapterPublishService;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Opaque handle of an mqtt topic registered via {@link ProtocolAdapterPublishService#registerTopic(String)}.
+ * <p>
+ * The topic is validated and encoded once on registration and HiveMQ Edge caches the subscribers matching the topic
+ * until the subscriptions change. Publishing to a handle therefore avoids the per message cost of validating, encoding
+ * and matching the topic. Handles are thread safe and should be registered once, e.g. on adapter start, and reused for
+ * all publishes to the topic.
+ * <p>
+ * Only HiveMQ Edge creates instances, adapters MUST NOT implement this interface.
+ */
+@ApiStatus.NonExtendable
+public interface TopicHandle {
+
+    /**
+     * @return the mqtt topic of this handle
+     */
+    @NotNull String getTopic();
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.api;
+
+import com.hivemq.adapter.sdk.api.config.MqttUserProperty;
+import com.hivemq.adapter.sdk.api.services.ProtocolAdapterPublishService;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Opaque, immutable set of mqtt user properties registered via
+ * {@link ProtocolAdapterPublishService#registerUserProperties(List)}.
+ * <p>
+ * The user properties are encoded once on registration and attached to publishes as a whole, so static user
+ * properties, e.g. from {@link com.hivemq.adapter.sdk.api.config.PollingContext#getUserProperties()}, are not encoded
+ * again for every publish. Handles are thread safe and should be registered once per polling context and reused.
+ * <p>
+ * Only HiveMQ Edge creates instances, adapters MUST NOT implement this interface.
+ */
+@ApiStatus.NonExtendable
+public interface UserPropertiesHandle {
+
+    /**
+     * @return the user properties of this handle
+     */
+    @NotNull List<MqttUserProperty> getUserProperties();
+}
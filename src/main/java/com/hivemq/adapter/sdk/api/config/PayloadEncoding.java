@@ -0,0 +1,67 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.api.config;
+
+import com.hivemq.adapter.sdk.api.data.JsonPayloadSink;
+import com.hivemq.adapter.sdk.api.data.StreamingJsonPayloadCreator;
+import com.hivemq.adapter.sdk.api.schema.TagSchemaCreationOutput;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Defines the encoding of the payloads created from the data points of a {@link PollingContext}.
+ * <p>
+ * The binary encodings use the same document structure as JSON but are considerably smaller and cheaper to create.
+ * If the adapter provides a {@link TagSchemaCreationOutput.DataPointSchema} for the tag, the encoder uses it to pick
+ * the most compact representation of the value, e.g. the smallest integer width that covers the range of the schema
+ * or raw bytes instead of base64 for {@code BINARY} values.
+ * <p>
+ * Custom payload creators need to implement {@link StreamingJsonPayloadCreator} to support binary encodings, as the
+ * generator of the {@link JsonPayloadSink} then writes the configured encoding. Payloads created as byte arrays, i.e.
+ * by a {@link com.hivemq.adapter.sdk.api.data.JsonPayloadCreator} that only implements
+ * {@link com.hivemq.adapter.sdk.api.data.JsonPayloadCreator#convertToJson}, are not transcoded: they are published
+ * unchanged as JSON with the content type of {@link #JSON}, regardless of the configured encoding.
+ */
+public enum PayloadEncoding {
+
+    /**
+     * UTF-8 encoded JSON (RFC 8259).
+     */
+    JSON("application/json"),
+
+    /**
+     * Concise Binary Object Representation (RFC 8949).
+     */
+    CBOR("application/cbor"),
+
+    /**
+     * MessagePack (https://msgpack.org).
+     */
+    MESSAGE_PACK("application/msgpack");
+
+    private final @NotNull String contentType;
+
+    PayloadEncoding(final @NotNull String contentType) {
+        this.contentType = contentType;
+    }
+
+    /**
+     * @return the content type that is set on the MQTT publishes whose payload was written in this encoding via
+     *         {@link JsonPayloadSink#startPayload()}.
+     */
+    public @NotNull String getContentType() {
+        return contentType;
+    }
+}
@@ -15,7 +15,10 @@
  */
 package com.hivemq.adapter.sdk.api.config;
 
+import com.hivemq.adapter.sdk.api.data.DataPointExpiry;
 import com.hivemq.adapter.sdk.api.data.JsonPayloadCreator;
+import com.hivemq.adapter.sdk.api.data.JsonPayloadSink;
+import com.hivemq.adapter.sdk.api.data.StreamingJsonPayloadCreator;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -63,15 +66,35 @@ public interface PollingContext {
 
     /**
      * @return optional custom implementation of the {@link JsonPayloadCreator} to overwrite the default creation of the
-     *         mqtt payloads
+     *         mqtt payloads. Return a {@link StreamingJsonPayloadCreator} to write the payloads without intermediate
+     *         allocations.
      */
     default @Nullable JsonPayloadCreator getJsonPayloadCreator() {
         return null;
     }
 
     /**
-     * @return optional custom implementation of the {@link JsonPayloadCreator} to overwrite the default creation of the
-     *         mqtt payloads
+     * Binary encodings only apply to payloads written via the generator of a {@link JsonPayloadSink}, see
+     * {@link PayloadEncoding}.
+     *
+     * @return the encoding of the mqtt payloads created for this polling context
+     */
+    default @NotNull PayloadEncoding getPayloadEncoding() {
+        return PayloadEncoding.JSON;
+    }
+
+    /**
+     * @return the policy that decides which polled values of the tag are published
+     */
+    default @NotNull ReportingPolicy getReportingPolicy() {
+        return ReportingPolicy.ALWAYS;
+    }
+
+    /**
+     * The message expiry interval is set on the mqtt publishes of the tag. Data points whose timestamp is older than
+     * the interval are dropped before their payload is created, see {@link DataPointExpiry}.
+     *
+     * @return the message expiry interval in seconds, {@link Long#MAX_VALUE} if not set
      */
     default @Nullable Long getMessageExpiryInterval() {
         return Long.MAX_VALUE; //Default taken from com.hivemq.mqtt.message.publish.PUBLISH.MESSAGE_EXPIRY_INTERVAL_NOT_SET
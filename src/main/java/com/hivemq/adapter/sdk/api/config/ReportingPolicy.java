@@ -0,0 +1,89 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.api.config;
+
+import com.hivemq.adapter.sdk.api.data.DataPointChangeFilter;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Defines which polled values of a tag are published (report-by-exception).
+ * <p>
+ * HiveMQ Edge applies the policy of a {@link PollingContext} to the data points of every poll before the payloads are
+ * created, see {@link DataPointChangeFilter}. A value is always compared against the last value that was published,
+ * so slow drifts are published once they exceed the deadband.
+ *
+ * @param mode     the mode of the policy
+ * @param deadband the deadband for {@link Mode#ABSOLUTE_DEADBAND} (in units of the value) and
+ *                 {@link Mode#PERCENT_DEADBAND} (in percent of the last published value). Ignored for other modes.
+ */
+public record ReportingPolicy(@NotNull Mode mode, double deadband) {
+
+    /**
+     * Every polled value is published.
+     */
+    public static final @NotNull ReportingPolicy ALWAYS = new ReportingPolicy(Mode.ALWAYS, 0);
+
+    /**
+     * Only changed values are published.
+     */
+    public static final @NotNull ReportingPolicy ON_CHANGE = new ReportingPolicy(Mode.ON_CHANGE, 0);
+
+    public ReportingPolicy {
+        if (!(deadband >= 0)) {
+            throw new IllegalArgumentException("Deadband must be a non negative number but was " + deadband);
+        }
+    }
+
+    /**
+     * @param deadband the maximum absolute difference to the last published value that is not published
+     * @return a policy that publishes numeric values only if they differ by more than the deadband
+     */
+    public static @NotNull ReportingPolicy absoluteDeadband(final double deadband) {
+        return new ReportingPolicy(Mode.ABSOLUTE_DEADBAND, deadband);
+    }
+
+    /**
+     * @param deadbandPercent the maximum difference in percent of the last published value that is not published
+     * @return a policy that publishes numeric values only if they differ by more than the given percentage
+     */
+    public static @NotNull ReportingPolicy percentDeadband(final double deadbandPercent) {
+        return new ReportingPolicy(Mode.PERCENT_DEADBAND, deadbandPercent);
+    }
+
+    public enum Mode {
+        /**
+         * Every polled value is published.
+         */
+        ALWAYS,
+
+        /**
+         * A value is published if it is not equal to the last published value.
+         */
+        ON_CHANGE,
+
+        /**
+         * A numeric value is published if its absolute difference to the last published value exceeds the deadband.
+         * Non-numeric values are handled like {@link #ON_CHANGE}.
+         */
+        ABSOLUTE_DEADBAND,
+
+        /**
+         * A numeric value is published if its difference to the last published value exceeds the deadband percentage
+         * of the last published value. Non-numeric values are handled like {@link #ON_CHANGE}.
+         */
+        PERCENT_DEADBAND
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.api.data;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link JsonPayloadSink} collecting the payloads as byte arrays, used to bridge a {@link StreamingJsonPayloadCreator}
+ * to {@link JsonPayloadCreator#convertToJson}.
+ */
+final class ByteArrayJsonPayloadSink implements JsonPayloadSink {
+
+    private final @NotNull JsonFactory jsonFactory;
+    private final @NotNull List<byte[]> payloads = new ArrayList<>();
+    private final @NotNull ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    private @Nullable JsonGenerator generator;
+
+    ByteArrayJsonPayloadSink(final @NotNull JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    @Override
+    public @NotNull JsonGenerator startPayload() throws IOException {
+        if (generator != null) {
+            throw new IllegalStateException("The previous payload was not ended");
+        }
+        outputStream.reset();
+        generator = jsonFactory.createGenerator(outputStream);
+        return generator;
+    }
+
+    @Override
+    public void endPayload() throws IOException {
+        if (generator == null) {
+            throw new IllegalStateException("No payload was started");
+        }
+        generator.close();
+        generator = null;
+        payloads.add(outputStream.toByteArray());
+    }
+
+    @Override
+    public void writePayload(final byte @NotNull [] payload) {
+        payloads.add(payload);
+    }
+
+    @NotNull List<byte[]> getPayloads() {
+        return payloads;
+    }
+}
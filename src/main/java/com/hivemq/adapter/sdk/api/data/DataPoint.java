@@ -42,6 +42,14 @@ public interface DataPoint {
      */
     @NotNull String getTagName();
 
+    /**
+     * @return the time the value was sampled in milliseconds since epoch, see {@link
+     *         com.hivemq.adapter.sdk.api.datapoint.DataPointBuilder#timestamp(long)}, or 0 if no timestamp was set.
+     */
+    default long getTimestamp() {
+        return 0;
+    }
+
     /**
      * @return the tag name of the data point.
      */
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.api.data;
+
+import com.hivemq.adapter.sdk.api.config.ReportingPolicy;
+import com.hivemq.adapter.sdk.api.schema.ScalarType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Change detection stage that decides per data point whether it is published according to a {@link ReportingPolicy}.
+ * <p>
+ * Tags are addressed by a slot index (e.g. the index of the {@link com.hivemq.adapter.sdk.api.config.PollingContext}
+ * of the tag), the last published value per slot is kept in primitive arrays. Values of {@link ScalarDataPoint}s are
+ * compared without boxing. Boxed numbers and booleans, e.g. from the deprecated {@code addDataPoint(name, value)}
+ * methods, are compared like the matching scalar values, other {@link Number}s are compared numerically via
+ * {@link Number#doubleValue()} and all other data points via {@link Objects#deepEquals(Object, Object)} of their tag
+ * value, so arrays such as {@code byte[]} are compared by content.
+ * Values of different {@link ScalarType}s are never equal, but the deadband applies across the numeric types
+ * {@link ScalarType#LONG}, {@link ScalarType#ULONG} and {@link ScalarType#DOUBLE}. The difference of two
+ * {@link ScalarType#LONG} or two {@link ScalarType#ULONG} values is computed exactly, values of mixed types are
+ * compared as {@code double}.
+ * <p>
+ * Instances are not thread safe.
+ */
+public final class DataPointChangeFilter {
+
+    private final @NotNull ReportingPolicy @NotNull [] policies;
+    private final boolean @NotNull [] published;
+    private final @Nullable ScalarType @NotNull [] lastTypes;
+    private final long @NotNull [] lastBits;
+    private final double @NotNull [] lastNumbers;
+    private final @Nullable Object @NotNull [] lastValues;
+
+    /**
+     * @param policies the reporting policy per slot
+     */
+    public DataPointChangeFilter(final @NotNull List<ReportingPolicy> policies) {
+        final int size = policies.size();
+        this.policies = policies.toArray(new ReportingPolicy[0]);
+        this.published = new boolean[size];
+        this.lastTypes = new ScalarType[size];
+        this.lastBits = new long[size];
+        this.lastNumbers = new double[size];
+        this.lastValues = new Object[size];
+    }
+
+    /**
+     * Checks whether the data point is published and remembers its value as last published value if so.
+     *
+     * @param slot      the slot of the tag the data point belongs to
+     * @param dataPoint the polled data point
+     * @return true: the data point is published, false: the data point is dropped
+     */
+    public boolean accept(final int slot, final @NotNull DataPoint dataPoint) {
+        final ReportingPolicy policy = policies[slot];
+        if (policy.mode() == ReportingPolicy.Mode.ALWAYS) {
+            return true;
+        }
+        if (dataPoint instanceof final ScalarDataPoint scalar) {
+            return acceptScalar(slot, policy, scalar);
+        }
+        final Object value = dataPoint.getTagValue();
+        if (!dataPoint.treatTagValueAsJson()) {
+            if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                final long longValue = ((Number) value).longValue();
+                return acceptScalar(slot, policy, ScalarType.LONG, longValue, longValue);
+            }
+            if (value instanceof Double || value instanceof Float) {
+                final double doubleValue = ((Number) value).doubleValue();
+                return acceptScalar(slot, policy, ScalarType.DOUBLE, Double.doubleToLongBits(doubleValue), doubleValue);
+            }
+            if (value instanceof final Boolean booleanValue) {
+                final long bits = booleanValue ? 1 : 0;
+                return acceptScalar(slot, policy, ScalarType.BOOLEAN, bits, bits);
+            }
+        }
+        if (published[slot] &&
+                lastTypes[slot] == null &&
+                !changed(policy, value, lastValues[slot], lastNumbers[slot])) {
+            return false;
+        }
+        published[slot] = true;
+        lastTypes[slot] = null;
+        lastValues[slot] = value;
+        lastNumbers[slot] = value instanceof final Number number ? number.doubleValue() : Double.NaN;
+        return true;
+    }
+
+    /**
+     * Forgets the last published value of the slot, so the next data point is published.
+     *
+     * @param slot the slot of the tag
+     */
+    public void reset(final int slot) {
+        published[slot] = false;
+        lastTypes[slot] = null;
+        lastValues[slot] = null;
+    }
+
+    /**
+     * Forgets the last published values of all slots.
+     */
+    public void reset() {
+        for (int slot = 0; slot < published.length; slot++) {
+            reset(slot);
+        }
+    }
+
+    private boolean acceptScalar(
+            final int slot,
+            final @NotNull ReportingPolicy policy,
+            final @NotNull ScalarDataPoint dataPoint) {
+        final ScalarType type = dataPoint.getScalarType();
+        return switch (type) {
+            case BOOLEAN -> {
+                final long bits = dataPoint.getBoolean() ? 1 : 0;
+                yield acceptScalar(slot, policy, type, bits, bits);
+            }
+            case DOUBLE -> {
+                final double number = dataPoint.getDouble();
+                yield acceptScalar(slot, policy, type, Double.doubleToLongBits(number), number);
+            }
+            case ULONG -> {
+                final long bits = dataPoint.getLong();
+                yield acceptScalar(slot, policy, type, bits, unsignedToDouble(bits));
+            }
+            default -> {
+                final long bits = dataPoint.getLong();
+                yield acceptScalar(slot, policy, type, bits, bits);
+            }
+        };
+    }
+
+    private boolean acceptScalar(
+            final int slot,
+            final @NotNull ReportingPolicy policy,
+            final @NotNull ScalarType type,
+            final long bits,
+            final double number) {
+        final ScalarType lastType = lastTypes[slot];
+        if (published[slot] && lastType != null) {
+            if (type == lastType && bits == lastBits[slot]) {
+                return false;
+            }
+            if (isNumeric(type) &&
+                    isNumeric(lastType) &&
+                    !exceedsDeadband(slot, policy, type, lastType, bits, number)) {
+                return false;
+            }
+        }
+        published[slot] = true;
+        lastTypes[slot] = type;
+        lastBits[slot] = bits;
+        lastNumbers[slot] = number;
+        lastValues[slot] = null;
+        return true;
+    }
+
+    private static boolean changed(
+            final @NotNull ReportingPolicy policy,
+            final @Nullable Object value,
+            final @Nullable Object lastValue,
+            final double lastNumber) {
+        if (Objects.deepEquals(value, lastValue)) {
+            return false;
+        }
+        if (value instanceof final Number number && lastValue instanceof Number) {
+            return exceedsDeadband(policy, number.doubleValue(), lastNumber);
+        }
+        return true;
+    }
+
+    private static boolean isNumeric(final @Nullable ScalarType type) {
+        return type == ScalarType.LONG || type == ScalarType.ULONG || type == ScalarType.DOUBLE;
+    }
+
+    private boolean exceedsDeadband(
+            final int slot,
+            final @NotNull ReportingPolicy policy,
+            final @NotNull ScalarType type,
+            final @NotNull ScalarType lastType,
+            final long bits,
+            final double number) {
+        if (type != lastType || type == ScalarType.DOUBLE) {
+            return exceedsDeadband(policy, number, lastNumbers[slot]);
+        }
+        final long last = lastBits[slot];
+        final boolean greater = type == ScalarType.ULONG ? Long.compareUnsigned(bits, last) > 0 : bits > last;
+        // the exact difference of two 64 bit values fits into an unsigned long
+        final long difference = greater ? bits - last : last - bits;
+        return switch (policy.mode()) {
+            case ABSOLUTE_DEADBAND -> exceedsUnsigned(difference, policy.deadband());
+            case PERCENT_DEADBAND -> exceedsUnsigned(difference, Math.abs(lastNumbers[slot]) * policy.deadband() / 100);
+            default -> true;
+        };
+    }
+
+    private static boolean exceedsUnsigned(final long difference, final double threshold) {
+        if (threshold >= 0x1p64) {
+            return false;
+        }
+        // an integral difference exceeds the threshold if and only if it exceeds the integral part of the threshold
+        final double floor = Math.floor(threshold);
+        final long limit = floor >= 0x1p63 ? (long) (floor - 0x1p63) + Long.MIN_VALUE : (long) floor;
+        return Long.compareUnsigned(difference, limit) > 0;
+    }
+
+    private static boolean exceedsDeadband(
+            final @NotNull ReportingPolicy policy,
+            final double number,
+            final double lastNumber) {
+        if (Double.isNaN(number) || Double.isNaN(lastNumber)) {
+            return true;
+        }
+        final double difference = Math.abs(number - lastNumber);
+        return switch (policy.mode()) {
+            case ABSOLUTE_DEADBAND -> difference > policy.deadband();
+            case PERCENT_DEADBAND -> difference > Math.abs(lastNumber) * policy.deadband() / 100;
+            default -> true;
+        };
+    }
+
+    private static double unsignedToDouble(final long value) {
+        final double upper = (double) (value >>> 1) * 2;
+        return upper + (value & 1);
+    }
+}
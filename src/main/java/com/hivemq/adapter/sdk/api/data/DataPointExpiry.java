@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.api.data;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Drops data points whose message expiry interval already elapsed, so no payload is created and sent for data that
+ * no subscriber would receive anymore. HiveMQ Edge applies this to queued data points before their payload is created
+ * and counts the dropped data points via
+ * {@link com.hivemq.adapter.sdk.api.services.ProtocolAdapterMetricsService#incrementExpiredDataPoints(int)}.
+ * <p>
+ * Data points without a timestamp never expire. An interval of 0 means that the publish is delivered to connected
+ * subscribers but not queued for offline ones, so it never causes data points to be dropped.
+ */
+public final class DataPointExpiry {
+
+    private DataPointExpiry() {
+    }
+
+    /**
+     * @param dataPoint             the data point to check
+     * @param messageExpiryInterval the message expiry interval in seconds, see
+     *                              {@link com.hivemq.adapter.sdk.api.config.PollingContext#getMessageExpiryInterval()}
+     * @param nowMillis             the current time in milliseconds since epoch
+     * @return true if the data point has a timestamp and is older than the message expiry interval, false if the
+     *         interval is 0.
+     */
+    public static boolean isExpired(
+            final @NotNull DataPoint dataPoint,
+            final long messageExpiryInterval,
+            final long nowMillis) {
+        final long timestamp = dataPoint.getTimestamp();
+        if (timestamp <= 0 || messageExpiryInterval <= 0 || messageExpiryInterval >= Long.MAX_VALUE / 1000) {
+            return false;
+        }
+        return nowMillis - timestamp > messageExpiryInterval * 1000;
+    }
+
+    /**
+     * Removes all expired data points from the list in place.
+     *
+     * @param dataPoints            the data points, must be modifiable
+     * @param messageExpiryInterval the message expiry interval in seconds or null if not set
+     * @param nowMillis             the current time in milliseconds since epoch
+     * @return the number of removed data points
+     */
+    public static int shed(
+            final @NotNull List<DataPoint> dataPoints,
+            final @Nullable Long messageExpiryInterval,
+            final long nowMillis) {
+        if (messageExpiryInterval == null) {
+            return 0;
+        }
+        final int size = dataPoints.size();
+        final long interval = messageExpiryInterval;
+        dataPoints.removeIf(dataPoint -> isExpired(dataPoint, interval, nowMillis));
+        return size - dataPoints.size();
+    }
+}
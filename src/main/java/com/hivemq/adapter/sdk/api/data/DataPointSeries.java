@@ -0,0 +1,191 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.api.data;
+
+import com.hivemq.adapter.sdk.api.datapoint.DataPointListBuilder;
+import com.hivemq.adapter.sdk.api.schema.ScalarType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A series of samples of a single tag stored column by column: one array of timestamps and one primitive array of
+ * values.
+ * <p>
+ * Series are meant for high-rate sources like vibration or waveform sensors. They are added via
+ * {@link DataPointListBuilder#addDataPointSeries} and published as a single message instead of one data point per
+ * sample. The payload keeps the columnar layout:
+ * {@code {"tagName": "...", "timestamps": [...], "values": [...]}}.
+ * <p>
+ * The arrays are not copied, only the first {@link #size()} entries are used. They MUST NOT be modified after the
+ * series was published.
+ */
+public final class DataPointSeries {
+
+    private final @NotNull ScalarType scalarType;
+    private final long @NotNull [] timestamps;
+    private final long @Nullable [] longValues;
+    private final double @Nullable [] doubleValues;
+    private final boolean @Nullable [] booleanValues;
+    private final int size;
+
+    private DataPointSeries(
+            final @NotNull ScalarType scalarType,
+            final long @NotNull [] timestamps,
+            final long @Nullable [] longValues,
+            final double @Nullable [] doubleValues,
+            final boolean @Nullable [] booleanValues,
+            final int valuesLength,
+            final int size) {
+        if (size < 0 || size > timestamps.length || size > valuesLength) {
+            throw new IllegalArgumentException("Size " +
+                    size +
+                    " exceeds the " +
+                    timestamps.length +
+                    " timestamps or " +
+                    valuesLength +
+                    " values");
+        }
+        this.scalarType = scalarType;
+        this.timestamps = timestamps;
+        this.longValues = longValues;
+        this.doubleValues = doubleValues;
+        this.booleanValues = booleanValues;
+        this.size = size;
+    }
+
+    /**
+     * @param timestamps the timestamps of the samples in epoch milliseconds
+     * @param values     the values of the samples
+     * @param size       the number of samples
+     * @return a series of {@link ScalarType#LONG} values
+     */
+    public static @NotNull DataPointSeries ofLongs(
+            final long @NotNull [] timestamps,
+            final long @NotNull [] values,
+            final int size) {
+        return ofLongs(ScalarType.LONG, timestamps, values, size);
+    }
+
+    /**
+     * @param scalarType the type of the values, must be a type encoded as long (see {@link ScalarDataPoint})
+     * @param timestamps the timestamps of the samples in epoch milliseconds
+     * @param values     the values of the samples
+     * @param size       the number of samples
+     * @return a series of values of the given type
+     */
+    public static @NotNull DataPointSeries ofLongs(
+            final @NotNull ScalarType scalarType,
+            final long @NotNull [] timestamps,
+            final long @NotNull [] values,
+            final int size) {
+        switch (scalarType) {
+            case BOOLEAN, DOUBLE, STRING, BINARY ->
+                    throw new IllegalArgumentException("Type " + scalarType + " is not encoded as long");
+        }
+        return new DataPointSeries(scalarType, timestamps, values, null, null, values.length, size);
+    }
+
+    /**
+     * @param timestamps the timestamps of the samples in epoch milliseconds
+     * @param values     the values of the samples
+     * @param size       the number of samples
+     * @return a series of {@link ScalarType#DOUBLE} values
+     */
+    public static @NotNull DataPointSeries ofDoubles(
+            final long @NotNull [] timestamps,
+            final double @NotNull [] values,
+            final int size) {
+        return new DataPointSeries(ScalarType.DOUBLE, timestamps, null, values, null, values.length, size);
+    }
+
+    /**
+     * @param timestamps the timestamps of the samples in epoch milliseconds
+     * @param values     the values of the samples
+     * @param size       the number of samples
+     * @return a series of {@link ScalarType#BOOLEAN} values
+     */
+    public static @NotNull DataPointSeries ofBooleans(
+            final long @NotNull [] timestamps,
+            final boolean @NotNull [] values,
+            final int size) {
+        return new DataPointSeries(ScalarType.BOOLEAN, timestamps, null, null, values, values.length, size);
+    }
+
+    /**
+     * @return the type of the values, which determines the accessor to use.
+     */
+    public @NotNull ScalarType getScalarType() {
+        return scalarType;
+    }
+
+    /**
+     * @return the number of samples
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index the index of the sample
+     * @return the timestamp of the sample in epoch milliseconds
+     */
+    public long getTimestamp(final int index) {
+        return timestamps[checkIndex(index)];
+    }
+
+    /**
+     * @param index the index of the sample
+     * @return the value of the sample
+     * @throws IllegalStateException if the values are not encoded as long.
+     */
+    public long getLong(final int index) {
+        if (longValues == null) {
+            throw new IllegalStateException("Values of type " + scalarType + " are not encoded as long");
+        }
+        return longValues[checkIndex(index)];
+    }
+
+    /**
+     * @param index the index of the sample
+     * @return the value of the sample
+     * @throws IllegalStateException if the type is not {@link ScalarType#DOUBLE}.
+     */
+    public double getDouble(final int index) {
+        if (doubleValues == null) {
+            throw new IllegalStateException("Values of type " + scalarType + " are not doubles");
+        }
+        return doubleValues[checkIndex(index)];
+    }
+
+    /**
+     * @param index the index of the sample
+     * @return the value of the sample
+     * @throws IllegalStateException if the type is not {@link ScalarType#BOOLEAN}.
+     */
+    public boolean getBoolean(final int index) {
+        if (booleanValues == null) {
+            throw new IllegalStateException("Values of type " + scalarType + " are not booleans");
+        }
+        return booleanValues[checkIndex(index)];
+    }
+
+    private int checkIndex(final int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return index;
+    }
+}
@@ -19,6 +19,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hivemq.adapter.sdk.api.config.PollingContext;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -41,4 +42,28 @@ public interface JsonPayloadCreator {
             @NotNull List<DataPoint> dataPoints,
             @NotNull PollingContext pollingContext,
             @NotNull ObjectMapper objectMapper);
+
+    /**
+     * Writes the payloads for the data points into the given sink. HiveMQ Edge calls this method to create the
+     * payloads. The default implementation adds the payloads created by {@link #convertToJson} to the sink via
+     * {@link JsonPayloadSink#writePayload(byte[])}, so they are published as JSON even if a binary
+     * {@link com.hivemq.adapter.sdk.api.config.PayloadEncoding} is configured. Implement
+     * {@link StreamingJsonPayloadCreator} to write the payloads in the configured encoding without intermediate byte
+     * arrays.
+     *
+     * @param dataPoints     the data points to create the payloads for
+     * @param pollingContext the polling context for the data
+     * @param objectMapper   object mapper instance that can be used to create the payloads
+     * @param sink           the sink to write the payloads to. Each payload is one mqtt publish.
+     * @throws IOException if writing to the sink fails
+     */
+    default void writeJson(
+            final @NotNull List<DataPoint> dataPoints,
+            final @NotNull PollingContext pollingContext,
+            final @NotNull ObjectMapper objectMapper,
+            final @NotNull JsonPayloadSink sink) throws IOException {
+        for (final byte[] payload : convertToJson(dataPoints, pollingContext, objectMapper)) {
+            sink.writePayload(payload);
+        }
+    }
 }
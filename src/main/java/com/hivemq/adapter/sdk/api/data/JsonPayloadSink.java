@@ -0,0 +1,62 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.api.data;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.hivemq.adapter.sdk.api.config.PayloadEncoding;
+import com.hivemq.adapter.sdk.api.config.PollingContext;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * Output for payloads created by a {@link JsonPayloadCreator}.
+ * <p>
+ * Each payload is either written directly via the {@link JsonGenerator} returned by {@link #startPayload()} or added
+ * as already encoded bytes via {@link #writePayload(byte[])}. HiveMQ Edge backs the generator with a pooled buffer,
+ * so writing via the generator avoids intermediate trees, strings and copies.
+ * <p>
+ * The generator writes the {@link PayloadEncoding} configured for the {@link PollingContext}, so the same code creates
+ * JSON or binary payloads. Payloads added via {@link #writePayload(byte[])} are always JSON and are published with the
+ * content type of {@link PayloadEncoding#JSON}, even if a binary encoding is configured.
+ */
+public interface JsonPayloadSink {
+
+    /**
+     * Starts a new payload. Exactly one JSON value MUST be written to the returned generator before
+     * {@link #endPayload()} is called. The generator MUST NOT be closed by the caller.
+     *
+     * @return the generator to write the payload to.
+     * @throws IOException if the payload can not be started.
+     */
+    @NotNull JsonGenerator startPayload() throws IOException;
+
+    /**
+     * Completes the payload started via {@link #startPayload()}. The generator MUST NOT be used afterwards.
+     *
+     * @throws IOException if the payload can not be completed.
+     */
+    void endPayload() throws IOException;
+
+    /**
+     * Adds an already encoded JSON payload. The bytes are published unchanged with the content type of
+     * {@link PayloadEncoding#JSON}, they are not transcoded to the configured {@link PayloadEncoding}.
+     *
+     * @param payload the utf-8 encoded json payload.
+     * @throws IOException if the payload can not be added.
+     */
+    void writePayload(byte @NotNull [] payload) throws IOException;
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.api.data;
+
+import com.hivemq.adapter.sdk.api.datapoint.DataPointBuilder;
+import com.hivemq.adapter.sdk.api.schema.ScalarType;
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+
+/**
+ * A data point holding a single primitive value without boxing it.
+ * <p>
+ * Data points built via the primitive {@code value(...)} methods of {@link DataPointBuilder} are represented as
+ * {@link ScalarDataPoint}, so consumers like a {@link JsonPayloadCreator} can read the value via the primitive
+ * accessor matching {@link #getScalarType()} instead of {@link #getTagValue()}:
+ * <ul>
+ *   <li>{@link ScalarType#BOOLEAN}: {@link #getBoolean()}
+ *   <li>{@link ScalarType#DOUBLE}: {@link #getDouble()}
+ *   <li>{@link ScalarType#LONG}, {@link ScalarType#ULONG} and the temporal types: {@link #getLong()}, using the
+ *       canonical long encoding documented on the {@link ScalarType} constant.
+ * </ul>
+ * Float values are widened exactly to {@link ScalarType#DOUBLE}, see {@link DataPointBuilder#value(float)}.
+ * {@link ScalarType#STRING} and {@link ScalarType#BINARY} are never used for scalar data points.
+ */
+public interface ScalarDataPoint extends DataPoint {
+
+    /**
+     * @return the type of the value, which determines the accessor to use.
+     */
+    @NotNull ScalarType getScalarType();
+
+    /**
+     * @return the value of the data point.
+     * @throws IllegalStateException if the value is not encoded as long.
+     */
+    long getLong();
+
+    /**
+     * @return the value of the data point.
+     * @throws IllegalStateException if the type is not {@link ScalarType#DOUBLE}.
+     */
+    double getDouble();
+
+    /**
+     * @return the value of the data point.
+     * @throws IllegalStateException if the type is not {@link ScalarType#BOOLEAN}.
+     */
+    boolean getBoolean();
+
+    /**
+     * @return the boxed value of the data point. Prefer the primitive accessors to avoid the allocation.
+     */
+    @Override
+    default @NotNull Object getTagValue() {
+        return switch (getScalarType()) {
+            case BOOLEAN -> getBoolean();
+            case LONG -> getLong();
+            case ULONG -> new BigInteger(Long.toUnsignedString(getLong()));
+            case DOUBLE -> getDouble();
+            case INSTANT -> Instant.ofEpochMilli(getLong());
+            case LOCAL_DATE -> LocalDate.ofEpochDay(getLong());
+            case LOCAL_TIME -> LocalTime.ofNanoOfDay(getLong());
+            case LOCAL_DATE_TIME -> LocalDateTime.ofInstant(Instant.ofEpochMilli(getLong()), ZoneOffset.UTC);
+            case DURATION -> Duration.ofNanos(getLong());
+            case STRING, BINARY -> throw new IllegalStateException("Scalar data point with unsupported type " +
+                    getScalarType() +
+                    " for tag " +
+                    getTagName());
+        };
+    }
+}
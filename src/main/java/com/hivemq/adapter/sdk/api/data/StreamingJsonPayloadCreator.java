@@ -0,0 +1,68 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.api.data;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hivemq.adapter.sdk.api.config.PollingContext;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * A {@link JsonPayloadCreator} that writes the payloads directly into a {@link JsonPayloadSink} instead of creating a
+ * byte array per payload.
+ */
+@FunctionalInterface
+public interface StreamingJsonPayloadCreator extends JsonPayloadCreator {
+
+    /**
+     * @param dataPoints     the data points to create the payloads for
+     * @param pollingContext the polling context for the data
+     * @param sink           the sink to write the payloads to. Each payload is one mqtt publish.
+     *                       The implementation can decide to put all data points into a single payload or split them.
+     *                       This is indicated via {@link PollingContext#getMessageHandlingOptions()}.
+     * @throws IOException if writing to the sink fails
+     */
+    void writeJson(
+            @NotNull List<DataPoint> dataPoints,
+            @NotNull PollingContext pollingContext,
+            @NotNull JsonPayloadSink sink) throws IOException;
+
+    @Override
+    default void writeJson(
+            final @NotNull List<DataPoint> dataPoints,
+            final @NotNull PollingContext pollingContext,
+            final @NotNull ObjectMapper objectMapper,
+            final @NotNull JsonPayloadSink sink) throws IOException {
+        writeJson(dataPoints, pollingContext, sink);
+    }
+
+    @Override
+    default @NotNull List<byte[]> convertToJson(
+            final @NotNull List<DataPoint> dataPoints,
+            final @NotNull PollingContext pollingContext,
+            final @NotNull ObjectMapper objectMapper) {
+        final ByteArrayJsonPayloadSink sink = new ByteArrayJsonPayloadSink(objectMapper.getFactory());
+        try {
+            writeJson(dataPoints, pollingContext, sink);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return sink.getPayloads();
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.api.datapoint;
+
+/**
+ * The immutable result of a {@link DataPointBatchBuilder}, holding the data points and series of one poll.
+ */
+public interface DataPointBatch {
+
+    /**
+     * @return the number of data points and series in this batch.
+     */
+    int size();
+
+    /**
+     * @return true if the batch contains neither data points nor series.
+     */
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.api.datapoint;
+
+import com.hivemq.adapter.sdk.api.data.DataPointSeries;
+import com.hivemq.adapter.sdk.api.tag.Tag;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Builder to collect data points into a {@link DataPointBatch} that is handed back to HiveMQ Edge as the result of an
+ * asynchronous poll instead of being published by the builder itself.
+ */
+public interface DataPointBatchBuilder {
+
+    @NotNull DataPointBuilder<DataPointBatchBuilder> addDataPoint(@NotNull Tag tag);
+
+    /**
+     * Adds a series of samples of a single tag, see {@link DataPointListBuilder#addDataPointSeries}.
+     *
+     * @param tag    the tag the samples belong to
+     * @param series the samples
+     * @return the builder for fluent API
+     */
+    @NotNull DataPointBatchBuilder addDataPointSeries(@NotNull Tag tag, @NotNull DataPointSeries series);
+
+    /**
+     * @return the batch containing all data points and series added so far.
+     */
+    @NotNull DataPointBatch build();
+}
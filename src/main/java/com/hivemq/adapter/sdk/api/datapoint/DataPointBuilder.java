@@ -16,12 +16,21 @@
 package com.hivemq.adapter.sdk.api.datapoint;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.hivemq.adapter.sdk.api.data.ScalarDataPoint;
 import org.jetbrains.annotations.NotNull;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.Instant;
 
+/**
+ * Builder for a single data point.
+ * <p>
+ * If the value is set via one of the primitive {@code value(...)} methods, the resulting data point is a
+ * {@link ScalarDataPoint} and the value is kept unboxed all the way to the payload creation.
+ *
+ * @param <R> the type of the builder to return to once the data point is complete
+ */
 public interface DataPointBuilder<R> {
 
     @NotNull DataPointBuilder<R> value(boolean value);
@@ -34,6 +43,16 @@ public interface DataPointBuilder<R> {
 
     @NotNull DataPointBuilder<R> value(long value);
 
+    /**
+     * Sets a float value. As there is no float {@link com.hivemq.adapter.sdk.api.schema.ScalarType}, the value is
+     * stored as {@link com.hivemq.adapter.sdk.api.schema.ScalarType#DOUBLE} by the exact widening
+     * {@code (double) value}, which does not allocate. Encoders may print a double that is exactly representable as
+     * float in the shortest form of the float, i.e. {@code Float.toString((float) value)}, so {@code 0.1f} can be
+     * published as {@code 0.1} instead of {@code 0.10000000149011612}.
+     *
+     * @param value the value of the data point
+     * @return the builder for fluent API
+     */
     @NotNull DataPointBuilder<R> value(float value);
 
     @NotNull DataPointBuilder<R> value(double value);
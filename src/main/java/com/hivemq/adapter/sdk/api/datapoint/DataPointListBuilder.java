@@ -15,12 +15,46 @@
  */
 package com.hivemq.adapter.sdk.api.datapoint;
 
+import com.hivemq.adapter.sdk.api.data.DataPointSeries;
 import com.hivemq.adapter.sdk.api.tag.Tag;
 import org.jetbrains.annotations.NotNull;
 
+/**
+ * Builder to collect the data points of a poll or of a streaming update and to publish them as a unit.
+ * <p>
+ * A builder may be reused by HiveMQ Edge for consecutive, never concurrent polls (see
+ * {@link com.hivemq.adapter.sdk.api.polling.PollingProtocolAdapter#reuseDataPointListBuilder()}). In this case the
+ * builder, the {@link DataPointBuilder} instances returned by {@link #addDataPoint(Tag)} and their nested builders
+ * are only valid until {@link #publish()} or {@link #reset()} is called and MUST NOT be retained by the adapter.
+ */
 public interface DataPointListBuilder {
 
     @NotNull DataPointBuilder<DataPointListBuilder> addDataPoint(@NotNull Tag tag);
 
+    /**
+     * Adds a series of samples of a single tag. The series is published as one message on the topic of the tag,
+     * independent of the {@link com.hivemq.adapter.sdk.api.config.MessageHandlingOptions}.
+     *
+     * @param tag    the tag the samples belong to
+     * @param series the samples
+     * @return the builder for fluent API
+     */
+    @NotNull DataPointListBuilder addDataPointSeries(@NotNull Tag tag, @NotNull DataPointSeries series);
+
     void publish();
+
+    /**
+     * Publishes the data points only if HiveMQ Edge can process them without buffering, see
+     * {@link com.hivemq.adapter.sdk.api.streaming.StreamingFlowControl}. Builders of polls always publish.
+     *
+     * @return true: the data points were published, false: HiveMQ Edge is saturated and the builder keeps its data
+     *         points, so they can be published later or dropped via {@link #reset()}.
+     */
+    boolean tryPublish();
+
+    /**
+     * Discards all data points added since the last {@link #publish()} so the builder can be filled again.
+     * This is done automatically after {@link #publish()}, so it is only needed to abandon a partially filled builder.
+     */
+    void reset();
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.api.polling;
+
+import com.hivemq.adapter.sdk.api.polling.batch.BatchPollingProtocolAdapter;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Defines how HiveMQ Edge adapts the polling interval of an adapter to the health of the device.
+ * <p>
+ * After a failed poll, or a poll that took longer than {@link #slowPollRatio()} times the current interval, the
+ * interval is stretched by {@link #backoffFactor()} up to {@link #maxIntervalMillis()}. After each successful and fast
+ * poll the interval shrinks by {@link #recoveryFactor()} until the interval declared by the adapter is reached again.
+ * This way an overloaded device is polled less frequently instead of being hammered until
+ * {@link PollingProtocolAdapter#getMaxPollingErrorsBeforeRemoval()} is exceeded. Consecutive errors are still
+ * counted, so adapters using a policy usually return a higher limit there.
+ *
+ * @param maxIntervalMillis the upper limit for the stretched polling interval
+ * @param backoffFactor     the factor the interval is multiplied with after a failed or slow poll, must be at least 1.
+ *                          A factor of 1 disables the adaption.
+ * @param recoveryFactor    the factor the interval is divided by after a successful and fast poll, must be at least 1
+ *                          and greater than 1 if the adaption is enabled, so the interval recovers.
+ * @param slowPollRatio     the ratio of poll duration to current interval above which a poll is considered slow
+ * @see PollingProtocolAdapter#getAdaptivePollingPolicy()
+ * @see BatchPollingProtocolAdapter#getAdaptivePollingPolicy()
+ */
+public record AdaptivePollingPolicy(
+        long maxIntervalMillis,
+        double backoffFactor,
+        double recoveryFactor,
+        double slowPollRatio) {
+
+    /**
+     * The polling interval is never adapted.
+     */
+    public static final @NotNull AdaptivePollingPolicy DISABLED = new AdaptivePollingPolicy(0, 1, 1, 1);
+
+    public AdaptivePollingPolicy {
+        if (maxIntervalMillis < 0) {
+            throw new IllegalArgumentException("Max interval must not be negative but was " + maxIntervalMillis);
+        }
+        if (!(backoffFactor >= 1) || !(recoveryFactor >= 1)) {
+            throw new IllegalArgumentException("Backoff and recovery factors must be at least 1 but were " +
+                    backoffFactor +
+                    " and " +
+                    recoveryFactor);
+        }
+        if (backoffFactor > 1 && !(recoveryFactor > 1)) {
+            throw new IllegalArgumentException(
+                    "Recovery factor must be greater than 1 if the backoff factor is greater than 1 but was " +
+                            recoveryFactor);
+        }
+        if (!(slowPollRatio > 0)) {
+            throw new IllegalArgumentException("Slow poll ratio must be positive but was " + slowPollRatio);
+        }
+    }
+
+    /**
+     * @param maxIntervalMillis the upper limit for the stretched polling interval
+     * @return a policy that doubles the interval after failed or slow polls and halves it after successful polls.
+     *         A poll is considered slow if it takes longer than 80% of the current interval.
+     */
+    public static @NotNull AdaptivePollingPolicy exponentialBackoff(final long maxIntervalMillis) {
+        return new AdaptivePollingPolicy(maxIntervalMillis, 2, 2, 0.8);
+    }
+
+    /**
+     * @return true if the polling interval is adapted at all
+     */
+    public boolean isEnabled() {
+        return backoffFactor > 1;
+    }
+
+    /**
+     * @param baseIntervalMillis    the polling interval declared by the adapter
+     * @param currentIntervalMillis the polling interval used for the last poll
+     * @param pollDurationMillis    the duration of the last poll
+     * @param success               whether the last poll was successful
+     * @return the polling interval to use for the next poll
+     */
+    public long nextIntervalMillis(
+            final long baseIntervalMillis,
+            final long currentIntervalMillis,
+            final long pollDurationMillis,
+            final boolean success) {
+        if (!isEnabled()) {
+            return baseIntervalMillis;
+        }
+        final long upperLimit = Math.max(baseIntervalMillis, maxIntervalMillis);
+        if (!success || pollDurationMillis > currentIntervalMillis * slowPollRatio) {
+            return Math.min(upperLimit, (long) Math.ceil(Math.max(currentIntervalMillis, 1) * backoffFactor));
+        }
+        return Math.min(upperLimit, Math.max(baseIntervalMillis, (long) (currentIntervalMillis / recoveryFactor)));
+    }
+}
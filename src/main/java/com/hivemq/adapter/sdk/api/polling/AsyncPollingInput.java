@@ -0,0 +1,31 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.api.polling;
+
+import com.hivemq.adapter.sdk.api.datapoint.DataPointBatchBuilder;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Input Object for the poll() method of an {@link AsyncPollingProtocolAdapter} containing information to use during the
+ * poll.
+ */
+public interface AsyncPollingInput extends PollingInput {
+
+    /**
+     * @return a new builder to create the result of the poll.
+     */
+    @NotNull DataPointBatchBuilder dataPointBatchBuilder();
+}
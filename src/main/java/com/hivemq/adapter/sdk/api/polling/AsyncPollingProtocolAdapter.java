@@ -0,0 +1,80 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.api.polling;
+
+import com.hivemq.adapter.sdk.api.ProtocolAdapter;
+import com.hivemq.adapter.sdk.api.datapoint.DataPointBatch;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * This interface is used for protocol adapters which poll PLC endpoints via asynchronous clients.
+ * The scheduling is done by the adapter framework in HiveMQ Edge.
+ * <p>
+ * In contrast to {@link PollingProtocolAdapter}, the result of a poll is returned as {@link CompletionStage}, so
+ * polls can be composed with asynchronous device clients without parking a thread until the device answers.
+ */
+public interface AsyncPollingProtocolAdapter extends ProtocolAdapter {
+
+    /**
+     * This method gets invoked by the HiveMQ Edge adapter framework to collect data points from the plc.
+     * <p>
+     * If the poll takes longer than {@link #getPollTimeoutMillis()}, HiveMQ Edge cancels it via
+     * {@link CompletableFuture#cancel(boolean)} on {@link CompletionStage#toCompletableFuture()} and counts it as
+     * failed poll.
+     * Implementations should return a {@link CompletableFuture} and propagate the cancellation to the device client,
+     * e.g. to abort the pending request.
+     *
+     * @param pollingInput input object containing information what and how to poll the data
+     * @return a stage that completes with the polled data points, or completes exceptionally if the poll failed.
+     */
+    @NotNull CompletionStage<DataPointBatch> poll(@NotNull AsyncPollingInput pollingInput);
+
+    /**
+     * @return an integer representing the milliseconds between starts of polls
+     */
+    int getPollingIntervalMillis();
+
+    /**
+     * @return the time in milliseconds after which a poll is cancelled. A value {@code <= 0} disables the timeout.
+     */
+    default long getPollTimeoutMillis() {
+        return getPollingIntervalMillis();
+    }
+
+    /**
+     * @return the policy for polls that become due while the previous poll is still running.
+     */
+    default @NotNull PollingOverrunPolicy getPollingOverrunPolicy() {
+        return PollingOverrunPolicy.SKIP;
+    }
+
+    /**
+     * @return an integer representing a upper limit of consecutive errors during a poll.
+     *         If this limit is exceeded, the polling will not be scheduled for this adapter anymore
+     *         and the adapter gets stopped.
+     */
+    int getMaxPollingErrorsBeforeRemoval();
+
+    /**
+     * @return the policy to adapt the polling interval to slow or failing devices.
+     */
+    default @NotNull AdaptivePollingPolicy getAdaptivePollingPolicy() {
+        return AdaptivePollingPolicy.DISABLED;
+    }
+}
@@ -58,6 +58,8 @@ public interface PollingOutput {
 
     /**
      * Get the publisher to construct and publish datapoints.
+     * If {@link PollingProtocolAdapter#reuseDataPointListBuilder()} is enabled, the instance is reused for later polls
+     * of the same {@link com.hivemq.adapter.sdk.api.config.PollingContext}, but never shared with a concurrent poll.
      */
     @NotNull DataPointListBuilder dataPointListPublisher();
 
@@ -88,4 +90,20 @@ public interface PollingOutput {
      */
     void fail(@NotNull String errorMessage);
 
+    /**
+     * @return true if HiveMQ Edge cancelled this poll, because it timed out or was replaced by the next poll, see
+     *         {@link PollingOverrunPolicy#CANCEL_PREVIOUS}. A cancelled poll is finished: this output is inert, so data
+     *         points, publishes and failures reported afterwards are discarded, and the poll no longer owns the reused
+     *         data point list builder, if any.
+     */
+    boolean isCancelled();
+
+    /**
+     * Registers a callback that is invoked once if HiveMQ Edge cancels this poll, e.g. to abort the pending device
+     * request. If the poll is already cancelled, the callback is invoked immediately on the calling thread.
+     *
+     * @param callback the callback to invoke on cancellation
+     */
+    void onCancel(@NotNull Runnable callback);
+
 }
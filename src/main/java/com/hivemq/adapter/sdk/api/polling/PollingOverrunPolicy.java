@@ -0,0 +1,59 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.api.polling;
+
+/**
+ * Defines what HiveMQ Edge does when the next poll is due while the previous poll is still running.
+ * <p>
+ * The policy applies per {@link com.hivemq.adapter.sdk.api.config.PollingContext} for
+ * {@link PollingProtocolAdapter}s and {@link AsyncPollingProtocolAdapter}s and per adapter for
+ * {@link com.hivemq.adapter.sdk.api.polling.batch.BatchPollingProtocolAdapter}s: only one poll of the same
+ * {@link com.hivemq.adapter.sdk.api.config.PollingContext} (or of the same batch adapter) is active at a time. With
+ * {@link #SKIP} and {@link #QUEUE_ONE} the next poll starts only after the previous poll finished, so polls never
+ * overlap. With {@link #CANCEL_PREVIOUS} the previous poll is finished by its cancellation, see there. Polls of
+ * different {@link com.hivemq.adapter.sdk.api.config.PollingContext}s may run concurrently, limited by
+ * {@link com.hivemq.adapter.sdk.api.ProtocolAdapterInformation#getMaxConcurrency()} for blocking adapters.
+ */
+public enum PollingOverrunPolicy {
+
+    /**
+     * The due poll is skipped. The next poll is scheduled with the regular interval after the running poll finished.
+     */
+    SKIP,
+
+    /**
+     * At most one due poll is remembered and started as soon as the running poll finished. Further due polls are
+     * skipped.
+     */
+    QUEUE_ONE,
+
+    /**
+     * The running poll is cancelled and counted as failed poll, then the due poll is started. Only suitable for
+     * adapters that can abort a pending device request. Synchronous adapters are notified via
+     * {@link PollingOutput#onCancel(Runnable)} or
+     * {@link com.hivemq.adapter.sdk.api.polling.batch.BatchPollingOutput#onCancel(Runnable)}, asynchronous adapters via
+     * the cancellation of the {@link java.util.concurrent.CompletableFuture} returned by
+     * {@link AsyncPollingProtocolAdapter#poll(AsyncPollingInput)}.
+     * <p>
+     * A cancelled poll is finished at the moment of its cancellation: its output becomes inert, i.e. later data
+     * points, publishes and failures of that poll are discarded, and a reused
+     * {@link com.hivemq.adapter.sdk.api.datapoint.DataPointListBuilder} is detached from it and replaced by a new one
+     * for the next poll. As cancellation is cooperative, the call of a synchronous adapter may still be running while
+     * the due poll starts, so the adapter must not assume that calls for the same
+     * {@link com.hivemq.adapter.sdk.api.config.PollingContext} never overlap with this policy.
+     */
+    CANCEL_PREVIOUS
+}
@@ -16,6 +16,8 @@
 package com.hivemq.adapter.sdk.api.polling;
 
 import com.hivemq.adapter.sdk.api.ProtocolAdapter;
+import com.hivemq.adapter.sdk.api.config.PollingContext;
+import com.hivemq.adapter.sdk.api.datapoint.DataPointListBuilder;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -37,10 +39,63 @@ public interface PollingProtocolAdapter extends ProtocolAdapter {
      */
     int getPollingIntervalMillis();
 
+    /**
+     * Allows to poll tags with different intervals.
+     *
+     * @param pollingContext the polling context of the tag
+     * @return an integer representing the milliseconds between starts of polls for the given tag
+     */
+    default int getPollingIntervalMillis(final @NotNull PollingContext pollingContext) {
+        return getPollingIntervalMillis();
+    }
+
+    /**
+     * A poll that takes longer than the timeout is cancelled, see {@link PollingOutput#onCancel(Runnable)}.
+     * It is counted as failed poll and its output is discarded.
+     *
+     * @return the time in milliseconds after which a poll times out. A value {@code <= 0} disables the timeout.
+     */
+    default long getPollTimeoutMillis() {
+        return 0;
+    }
+
+    /**
+     * @return the policy for polls that become due while the previous poll is still running.
+     */
+    default @NotNull PollingOverrunPolicy getPollingOverrunPolicy() {
+        return PollingOverrunPolicy.SKIP;
+    }
+
     /**
      * @return an integer representing a upper limit of consecutive errors during a poll.
      *         If this limit is exceeded, the polling will not be scheduled for this adapter anymore
      *         and the adapter gets stopped.
      */
     int getMaxPollingErrorsBeforeRemoval();
+
+    /**
+     * Opts in to reusing the {@link DataPointListBuilder} across polls.
+     * <p>
+     * If enabled, {@link PollingOutput#dataPointListPublisher()} returns the same builder instance for consecutive
+     * polls of the same {@link PollingContext}. A builder is handed to the next poll only after the previous poll that
+     * used it published, failed or was cancelled, so it is never shared between concurrent polls, neither between polls
+     * of different {@link PollingContext}s nor between overlapping polls of the same one. The builder of a cancelled
+     * poll is detached and never handed out again, even if the cancelled poll keeps writing to it; the next poll gets a
+     * new builder that is reused from then on. Its internal storage grows to the data points of the polls it was used
+     * for and is reset after each {@link DataPointListBuilder#publish()}, so steady state polling does not allocate
+     * builders. The adapter MUST NOT keep references to the builder or its data point builders beyond the poll in which
+     * they were obtained.
+     *
+     * @return true: the builder is reused across polls, false: a new builder is created for every poll.
+     */
+    default boolean reuseDataPointListBuilder() {
+        return false;
+    }
+
+    /**
+     * @return the policy to adapt the polling interval to slow or failing devices.
+     */
+    default @NotNull AdaptivePollingPolicy getAdaptivePollingPolicy() {
+        return AdaptivePollingPolicy.DISABLED;
+    }
 }
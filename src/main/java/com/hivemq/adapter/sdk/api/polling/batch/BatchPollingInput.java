@@ -16,10 +16,21 @@
 package com.hivemq.adapter.sdk.api.polling.batch;
 
 import com.hivemq.adapter.sdk.api.polling.PollingProtocolAdapter;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
 
 /**
  * Input Object for the poll() method of an {@link PollingProtocolAdapter} containing information tu use during the poll.
  */
 
 public interface BatchPollingInput {
+
+    /**
+     * The read plan is created once by HiveMQ Edge via {@link ReadPlanner} from the tags of the adapter, using
+     * {@link BatchPollingProtocolAdapter#getReadAddress} and {@link BatchPollingProtocolAdapter#getReadPlanOptions()}.
+     *
+     * @return the groups of tags that can be read from the device with a single request each.
+     */
+    @NotNull List<ReadGroup> getReadPlan();
 }
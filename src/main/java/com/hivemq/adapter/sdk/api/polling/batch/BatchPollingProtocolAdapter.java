@@ -16,9 +16,14 @@
 package com.hivemq.adapter.sdk.api.polling.batch;
 
 import com.hivemq.adapter.sdk.api.ProtocolAdapter;
+import com.hivemq.adapter.sdk.api.datapoint.DataPointListBuilder;
+import com.hivemq.adapter.sdk.api.polling.AdaptivePollingPolicy;
 import com.hivemq.adapter.sdk.api.polling.PollingInput;
 import com.hivemq.adapter.sdk.api.polling.PollingOutput;
+import com.hivemq.adapter.sdk.api.polling.PollingOverrunPolicy;
+import com.hivemq.adapter.sdk.api.tag.Tag;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 // TODO javadoc is likely outdated as it was copied from the old class
 
@@ -41,10 +46,70 @@ public interface BatchPollingProtocolAdapter extends ProtocolAdapter {
      */
     int getPollingIntervalMillis();
 
+    /**
+     * A poll that takes longer than the timeout is cancelled, see {@link BatchPollingOutput#onCancel(Runnable)}.
+     * It is counted as failed poll and its output is discarded.
+     *
+     * @return the time in milliseconds after which a poll times out. A value {@code <= 0} disables the timeout.
+     */
+    default long getPollTimeoutMillis() {
+        return 0;
+    }
+
+    /**
+     * @return the policy for polls that become due while the previous poll is still running.
+     */
+    default @NotNull PollingOverrunPolicy getPollingOverrunPolicy() {
+        return PollingOverrunPolicy.SKIP;
+    }
+
     /**
      * @return an integer representing a upper limit of consecutive errors during a poll.
      *         If this limit is exceeded, the polling will not be scheduled for this adapter anymore
      *         and the adapter gets stopped.
      */
     int getMaxPollingErrorsBeforeRemoval();
+
+    /**
+     * Opts in to reusing the {@link DataPointListBuilder} across polls.
+     * <p>
+     * If enabled, {@link BatchPollingOutput#dataPointListPublisher()} returns the same builder instance for consecutive
+     * polls of this adapter. A builder is handed to the next poll only after the previous poll that used it published,
+     * failed or was cancelled, so it is never shared between concurrent polls. The builder of a cancelled poll is
+     * detached and never handed out again, even if the cancelled poll keeps writing to it; the next poll gets a new
+     * builder that is reused from then on. Its internal storage is pre-sized to the tags of the adapter and is reset
+     * after each {@link DataPointListBuilder#publish()}, so steady state polling does not allocate builders. The
+     * adapter MUST NOT keep references to the builder or its data point builders beyond the poll in which they were
+     * obtained.
+     *
+     * @return true: the builder is reused across polls, false: a new builder is created for every poll.
+     */
+    default boolean reuseDataPointListBuilder() {
+        return false;
+    }
+
+    /**
+     * @return the policy to adapt the polling interval to slow or failing devices.
+     */
+    default @NotNull AdaptivePollingPolicy getAdaptivePollingPolicy() {
+        return AdaptivePollingPolicy.DISABLED;
+    }
+
+    /**
+     * Resolves where the tag is located on the device, so tags can be grouped into combined reads for
+     * {@link BatchPollingInput#getReadPlan()}.
+     *
+     * @param tag the tag to resolve the address for
+     * @return the address of the tag or null if the tag has to be read on its own.
+     */
+    default @Nullable ReadAddress getReadAddress(final @NotNull Tag tag) {
+        return null;
+    }
+
+    /**
+     * @return the limits for grouping tags into combined reads.
+     */
+    default @NotNull ReadPlanOptions getReadPlanOptions() {
+        return ReadPlanOptions.CONTIGUOUS;
+    }
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.api.polling.batch;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The location of a tag on the device, used to group tags into combined reads.
+ * <p>
+ * Only tags within the same {@link #area()} can be read together. Within an area the {@link #offset()} and
+ * {@link #length()} describe the position of the tag, e.g. the register range of a Modbus tag. Adapters that can read
+ * arbitrary addresses of an area at once (e.g. nodes of the same OPC UA namespace) can use any offset and rely on
+ * {@link ReadPlanOptions#maxGap()} and {@link ReadPlanOptions#maxSpan()} being unlimited.
+ *
+ * @param area   the key of the address area, e.g. unit id and register type or the namespace
+ * @param offset the start of the tag within the area
+ * @param length the length of the tag within the area
+ */
+public record ReadAddress(@NotNull String area, long offset, long length) {
+
+    public ReadAddress {
+        if (length < 0) {
+            throw new IllegalArgumentException("Length must not be negative but was " + length);
+        }
+    }
+
+    /**
+     * @return the exclusive end of the tag within the area
+     */
+    public long end() {
+        return offset + length;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.api.polling.batch;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Limits for grouping tags into combined reads.
+ *
+ * @param maxGap         the maximum number of unused units between two tags of the same read
+ * @param maxSpan        the maximum number of units covered by a single read, including gaps
+ * @param maxTagsPerRead the maximum number of tags in a single read
+ */
+public record ReadPlanOptions(long maxGap, long maxSpan, int maxTagsPerRead) {
+
+    /**
+     * Only adjacent or overlapping tags are read together, without limits on the size of the read.
+     */
+    public static final @NotNull ReadPlanOptions CONTIGUOUS =
+            new ReadPlanOptions(0, Long.MAX_VALUE, Integer.MAX_VALUE);
+
+    /**
+     * All tags of the same area are read together.
+     */
+    public static final @NotNull ReadPlanOptions UNLIMITED =
+            new ReadPlanOptions(Long.MAX_VALUE, Long.MAX_VALUE, Integer.MAX_VALUE);
+
+    public ReadPlanOptions {
+        if (maxGap < 0 || maxSpan < 1 || maxTagsPerRead < 1) {
+            throw new IllegalArgumentException("Invalid read plan options: maxGap " +
+                    maxGap +
+                    ", maxSpan " +
+                    maxSpan +
+                    ", maxTagsPerRead " +
+                    maxTagsPerRead);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.api.polling.batch;
+
+import com.hivemq.adapter.sdk.api.tag.Tag;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Groups tags into combined reads based on their {@link ReadAddress}.
+ * <p>
+ * Tags are grouped per area and sorted by offset. Consecutive tags are added to the same read as long as the gap to
+ * the previous tags, the span of the read and the number of tags stay within the {@link ReadPlanOptions}. Tags without
+ * an address are read on their own.
+ */
+public final class ReadPlanner {
+
+    private static final @NotNull Comparator<Entry> BY_OFFSET =
+            Comparator.comparingLong((Entry entry) -> entry.address.offset()).thenComparingLong(e -> e.address.end());
+
+    private ReadPlanner() {
+    }
+
+    /**
+     * @param tags      the tags to read
+     * @param addresses resolves the address of a tag, returns {@code null} if the tag can not be read with others
+     * @param options   the limits for the combined reads
+     * @return the reads that cover all given tags. Reads of tags without an address come first, followed by the
+     *         reads per area in the order of the first tag of the area. Reads of the same area are ordered by offset.
+     */
+    public static @NotNull List<ReadGroup> plan(
+            final @NotNull List<? extends Tag> tags,
+            final @NotNull Function<Tag, @Nullable ReadAddress> addresses,
+            final @NotNull ReadPlanOptions options) {
+        final List<ReadGroup> groups = new ArrayList<>();
+        final Map<String, List<Entry>> areas = new LinkedHashMap<>();
+        for (final Tag tag : tags) {
+            final ReadAddress address = addresses.apply(tag);
+            if (address == null) {
+                groups.add(new ReadGroup(null, List.of(tag)));
+            } else {
+                areas.computeIfAbsent(address.area(), area -> new ArrayList<>()).add(new Entry(tag, address));
+            }
+        }
+        for (final Map.Entry<String, List<Entry>> area : areas.entrySet()) {
+            final List<Entry> entries = area.getValue();
+            entries.sort(BY_OFFSET);
+            List<Tag> current = new ArrayList<>();
+            long start = 0;
+            long end = 0;
+            for (final Entry entry : entries) {
+                final ReadAddress address = entry.address;
+                if (!current.isEmpty()) {
+                    final long newEnd = Math.max(end, address.end());
+                    final boolean fits = address.offset() - end <= options.maxGap() &&
+                            newEnd - start <= options.maxSpan() &&
+                            current.size() < options.maxTagsPerRead();
+                    if (fits) {
+                        current.add(entry.tag);
+                        end = newEnd;
+                        continue;
+                    }
+                    groups.add(new ReadGroup(new ReadAddress(area.getKey(), start, end - start), List.copyOf(current)));
+                    current = new ArrayList<>();
+                }
+                current.add(entry.tag);
+                start = address.offset();
+                end = address.end();
+            }
+            groups.add(new ReadGroup(new ReadAddress(area.getKey(), start, end - start), List.copyOf(current)));
+        }
+        return groups;
+    }
+
+    private record Entry(@NotNull Tag tag, @NotNull ReadAddress address) {
+    }
+}
@@ -15,6 +15,7 @@
  */
 package com.hivemq.adapter.sdk.api.services;
 
+import com.hivemq.adapter.sdk.api.tag.Tag;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -53,12 +54,204 @@ public interface ProtocolAdapterMetricsService {
      */
     void incrementConnectionSuccess();
 
+    /**
+     * Increments the counter for polls that exceeded their timeout. NOTE: This is done by the framework.
+     */
+    void incrementPollTimeout();
+
+    /**
+     * Increments the counter for polls that became due while the previous poll was still running. NOTE: This is done by
+     * the framework.
+     */
+    void incrementPollOverrun();
+
+    /**
+     * Increments the counter for data points that were dropped because their message expiry interval elapsed before
+     * they were published. NOTE: This is done by the framework.
+     *
+     * @param count the number of dropped data points
+     */
+    void incrementExpiredDataPoints(int count);
+
     /**
      * Custom counter can be incremented via this method.
+     * For counters that are incremented frequently, {@link #registerCounter(String)} avoids the lookup by name.
      * @param metricName the name of the custom counter, which will be prefixed with
      *                   "com.hivemq.edge.protocol-adapters.ADAPTER_TYPE.ADAPTER_ID."
      */
     void increment(@NotNull String metricName);
 
+    /**
+     * Registers a custom counter. The returned handle should be kept by the adapter, so no lookup by name is needed
+     * when the counter is incremented. Registering the same name twice returns a handle to the same counter, which is
+     * also the counter incremented by {@link #increment(String)}.
+     *
+     * @param metricName the name of the custom counter, which will be prefixed with
+     *                   "com.hivemq.edge.protocol-adapters.ADAPTER_TYPE.ADAPTER_ID."
+     * @return the handle of the counter
+     */
+    @NotNull Counter registerCounter(@NotNull String metricName);
+
+    /**
+     * Registers a custom gauge. Registering the same name twice returns a handle to the same gauge.
+     *
+     * @param metricName the name of the custom gauge, which will be prefixed with
+     *                   "com.hivemq.edge.protocol-adapters.ADAPTER_TYPE.ADAPTER_ID."
+     * @return the handle of the gauge
+     */
+    @NotNull Gauge registerGauge(@NotNull String metricName);
+
+    /**
+     * Histogram of the duration of polls in nanoseconds. NOTE: For polling adapters this is recorded by the framework.
+     *
+     * @return the handle of the histogram
+     */
+    @NotNull Histogram pollDuration();
+
+    /**
+     * Histogram of the round-trip time of single device requests in nanoseconds, recorded by the adapter.
+     *
+     * @return the handle of the histogram
+     */
+    @NotNull Histogram deviceRoundTrip();
+
+    /**
+     * Histogram of the time between sending a publish and its acknowledgement in nanoseconds. NOTE: This is recorded by
+     * the framework.
+     *
+     * @return the handle of the histogram
+     */
+    @NotNull Histogram publishLatency();
+
+    /**
+     * Histogram of the payload size of publishes in bytes. NOTE: This is recorded by the framework.
+     *
+     * @return the handle of the histogram
+     */
+    @NotNull Histogram payloadSize();
+
+    /**
+     * Histogram of the number of data points per poll. NOTE: For polling adapters this is recorded by the framework.
+     *
+     * @return the handle of the histogram
+     */
+    @NotNull Histogram dataPointsPerPoll();
+
+    /**
+     * Registers a custom histogram. The returned handle should be kept by the adapter, so no lookup by name is needed
+     * when values are recorded. Registering the same name twice returns a handle to the same histogram.
+     *
+     * @param metricName the name of the custom histogram, which will be prefixed with
+     *                   "com.hivemq.edge.protocol-adapters.ADAPTER_TYPE.ADAPTER_ID."
+     * @return the handle of the histogram
+     */
+    @NotNull Histogram registerHistogram(@NotNull String metricName);
+
+    /**
+     * Returns the metrics of a single tag of this adapter. The handle should be resolved once per tag and kept by the
+     * adapter. The per tag metrics are stored by index of the tag in primitive arrays, so they stay cheap for adapters
+     * with many thousand tags. NOTE: For polling adapters, reads are recorded by the framework, for
+     * {@link com.hivemq.adapter.sdk.api.writing.WritingProtocolAdapter} writes are recorded by the framework.
+     *
+     * @param tag the tag of this adapter
+     * @return the handle of the metrics of the tag
+     */
+    @NotNull TagMetrics tagMetrics(@NotNull Tag tag);
+
+    /**
+     * Handle of the metrics of a single tag.
+     */
+    interface TagMetrics {
+
+        /**
+         * Counts a successful read of the tag and updates the time of its last value to now.
+         */
+        void incrementReadSuccess();
+
+        /**
+         * Counts a failed read of the tag.
+         */
+        void incrementReadFailure();
+
+        /**
+         * Counts a successful write to the tag.
+         */
+        void incrementWriteSuccess();
+
+        /**
+         * Counts a failed write to the tag.
+         */
+        void incrementWriteFailure();
+
+        /**
+         * Records the latency of a single read of the tag.
+         *
+         * @param nanos the latency in nanoseconds
+         */
+        void recordReadLatency(long nanos);
+
+        /**
+         * Sets the time of the last value of the tag, e.g. the source timestamp reported by the device. The age of the
+         * last value is reported relative to this time.
+         *
+         * @param timestampMillis the time of the last value in milliseconds since epoch
+         */
+        void setLastValueTimestamp(long timestampMillis);
+    }
+
+    /**
+     * Handle of a counter. Counters are striped (like {@link java.util.concurrent.atomic.LongAdder}), so concurrent
+     * increments do not contend and do not allocate.
+     */
+    interface Counter {
+
+        /**
+         * Increments the counter by one.
+         */
+        default void increment() {
+            add(1);
+        }
+
+        /**
+         * Increments the counter by the given amount.
+         *
+         * @param delta the amount, must not be negative
+         */
+        void add(long delta);
+    }
+
+    /**
+     * Handle of a gauge, reporting the value that was set last.
+     */
+    interface Gauge {
+
+        /**
+         * @param value the new value of the gauge
+         */
+        void set(long value);
+    }
+
+    /**
+     * Handle of a histogram. Recording is lock-free and does not allocate, so it can be used on the hot path of polls.
+     */
+    interface Histogram {
+
+        /**
+         * Records a single value.
+         *
+         * @param value the value, negative values are ignored
+         */
+        void record(long value);
+
+        /**
+         * Records the time elapsed since the given start.
+         *
+         * @param startNanos the start as returned by {@link System#nanoTime()}
+         */
+        default void recordSince(final long startNanos) {
+            record(System.nanoTime() - startNanos);
+        }
+    }
+
 
 }
@@ -15,9 +15,15 @@
  */
 package com.hivemq.adapter.sdk.api.services;
 
+import com.hivemq.adapter.sdk.api.ProtocolAdapterBatchPublishBuilder;
 import com.hivemq.adapter.sdk.api.ProtocolAdapterPublishBuilder;
+import com.hivemq.adapter.sdk.api.TopicHandle;
+import com.hivemq.adapter.sdk.api.UserPropertiesHandle;
+import com.hivemq.adapter.sdk.api.config.MqttUserProperty;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
+
 /**
  * Service to create and send publishes to HiveMQ Edge.
  */
@@ -27,4 +33,33 @@ public interface ProtocolAdapterPublishService {
      * @return a {@link ProtocolAdapterPublishBuilder} instance to create and sent a publish.
      */
     @NotNull ProtocolAdapterPublishBuilder createPublish();
+
+    /**
+     * Creates a builder to send many publishes at once with a single future for the whole batch.
+     * This avoids the allocation of a builder and a future per publish for adapters with a high message rate.
+     *
+     * @return a {@link ProtocolAdapterBatchPublishBuilder} instance to create and sent a batch of publishes.
+     */
+    @NotNull ProtocolAdapterBatchPublishBuilder createBatchPublish();
+
+    /**
+     * Registers an mqtt topic, so it does not need to be validated, encoded and matched against the subscriptions for
+     * every publish.
+     *
+     * @param mqttTopic the mqtt topic to publish to
+     * @return the handle to use with {@link ProtocolAdapterPublishBuilder#withTopic(TopicHandle)} and
+     *         {@link ProtocolAdapterBatchPublishBuilder#add(TopicHandle, java.nio.ByteBuffer)}
+     * @throws IllegalArgumentException if the topic is not a valid mqtt topic to publish to
+     */
+    @NotNull TopicHandle registerTopic(@NotNull String mqttTopic);
+
+    /**
+     * Registers a set of user properties, so they are encoded once instead of for every publish.
+     *
+     * @param userProperties the user properties, e.g.
+     *                       {@link com.hivemq.adapter.sdk.api.config.PollingContext#getUserProperties()}
+     * @return the handle to use with {@link ProtocolAdapterPublishBuilder#withUserProperties(UserPropertiesHandle)} and
+     *         {@link ProtocolAdapterBatchPublishBuilder#withUserProperties(UserPropertiesHandle)}
+     */
+    @NotNull UserPropertiesHandle registerUserProperties(@NotNull List<MqttUserProperty> userProperties);
 }
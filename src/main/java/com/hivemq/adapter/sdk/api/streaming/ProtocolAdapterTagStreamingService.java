@@ -24,8 +24,38 @@ import java.util.List;
 
 public interface ProtocolAdapterTagStreamingService {
 
+    /**
+     * @return a builder to publish data points or, for high-rate sources, whole
+     *         {@link com.hivemq.adapter.sdk.api.data.DataPointSeries} received for tags.
+     */
     @NotNull DataPointListBuilder dataPointsPublisher();
 
+    /**
+     * Creates a publisher that keeps only the latest value per tag while HiveMQ Edge can not keep up.
+     * <p>
+     * Data points published via the returned builder are put into a buffer that holds one entry per
+     * {@link com.hivemq.adapter.sdk.api.tag.Tag#getName()}; a newer value of a tag replaces the pending one. The buffer
+     * is flushed as soon as HiveMQ Edge has capacity, but at the latest after the flush interval. This way memory stays
+     * constant under bursts and consumers always receive the freshest values instead of a queue of stale ones.
+     * {@link DataPointListBuilder#tryPublish()} of the returned builder always succeeds.
+     * <p>
+     * There is a single conflation buffer per adapter, shared by all builders returned by this method, so adapters can
+     * call this method once per update like {@link #dataPointsPublisher()}. If different flush intervals are passed,
+     * the smallest one applies. Each returned builder is used for one update and MUST NOT be used after
+     * {@link DataPointListBuilder#publish()}; builders obtained on different subscription threads can be used
+     * concurrently.
+     *
+     * @param maxFlushIntervalMillis the maximum time in milliseconds a pending value waits before it is published
+     * @return a builder to publish data points with conflation.
+     * @throws IllegalArgumentException if {@code maxFlushIntervalMillis <= 0}
+     */
+    @NotNull DataPointListBuilder conflatingDataPointsPublisher(long maxFlushIntervalMillis);
+
+    /**
+     * @return the flow control to learn whether HiveMQ Edge can keep up with the published data points.
+     */
+    @NotNull StreamingFlowControl flowControl();
+
     /**
      * @deprecated replaced by {@link #dataPointsPublisher()} to support better performance and more complex data structures.
      * Method will be removed in 2026.10. Switch to using dataPointsPublisher() instead.
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.api.streaming;
+
+import com.hivemq.adapter.sdk.api.datapoint.DataPointListBuilder;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Credit based flow control between HiveMQ Edge and a streaming adapter.
+ * <p>
+ * Each credit allows one {@link DataPointListBuilder#publish()} that HiveMQ Edge can process without buffering it.
+ * Subscription based adapters use it to slow down, drop or conflate values at the source while Edge is saturated,
+ * e.g. by pausing monitored items or via {@link DataPointListBuilder#tryPublish()}.
+ */
+public interface StreamingFlowControl {
+
+    /**
+     * @return the number of publishes HiveMQ Edge can currently accept without buffering.
+     */
+    long getCredits();
+
+    /**
+     * @return true if HiveMQ Edge can currently not accept publishes without buffering.
+     */
+    default boolean isSaturated() {
+        return getCredits() <= 0;
+    }
+
+    /**
+     * Registers a listener that is called once when credits are available. If credits are available already, the
+     * listener is called immediately. The listener is called on a thread of HiveMQ Edge and MUST NOT block.
+     *
+     * @param listener the listener to call
+     */
+    void onDemand(@NotNull Runnable listener);
+}
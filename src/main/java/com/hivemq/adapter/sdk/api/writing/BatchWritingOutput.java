@@ -0,0 +1,63 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.api.writing;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Output object of a batch write, reporting the outcome of each entry separately. Entries are addressed by their index
+ * in the list of {@link WritingInput}s passed to
+ * {@link WritingProtocolAdapter#write(java.util.List, BatchWritingOutput)}.
+ */
+public interface BatchWritingOutput {
+
+    /**
+     * @param index the index of the entry
+     * @return the output to signal the outcome of the entry.
+     */
+    @NotNull WritingOutput entry(int index);
+
+    /**
+     * Signals Edge that writing the entry is done.
+     *
+     * @param index the index of the entry
+     */
+    default void finish(final int index) {
+        entry(index).finish();
+    }
+
+    /**
+     * Signals that something went wrong during writing the entry.
+     *
+     * @param index        the index of the entry
+     * @param t            Throwable indicating what went wrong.
+     * @param errorMessage an optional error message delivering further insights.
+     */
+    default void fail(final int index, final @NotNull Throwable t, final @Nullable String errorMessage) {
+        entry(index).fail(t, errorMessage);
+    }
+
+    /**
+     * Signals that something went wrong during writing the entry.
+     *
+     * @param index        the index of the entry
+     * @param errorMessage a message indicating what went wrong.
+     */
+    default void fail(final int index, final @NotNull String errorMessage) {
+        entry(index).fail(errorMessage);
+    }
+}
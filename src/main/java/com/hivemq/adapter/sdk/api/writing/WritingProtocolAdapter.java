@@ -28,6 +28,31 @@ public interface WritingProtocolAdapter extends ProtocolAdapter {
 
     void write(@NotNull WritingInput writingInput, @NotNull WritingOutput writingOutput);
 
+    /**
+     * Writes several pending writes at once, so the adapter can merge them into multi-register or multi-node device
+     * writes. The outcome of every entry must be signaled via the {@link BatchWritingOutput}.
+     * <p>
+     * The default implementation writes the entries one by one.
+     *
+     * @param writingInputs      the pending writes, at most {@link #getMaxWriteBatchSize()}
+     * @param batchWritingOutput output object to signal the outcome per entry
+     */
+    default void write(
+            final @NotNull List<WritingInput> writingInputs,
+            final @NotNull BatchWritingOutput batchWritingOutput) {
+        for (int i = 0; i < writingInputs.size(); i++) {
+            write(writingInputs.get(i), batchWritingOutput.entry(i));
+        }
+    }
+
+    /**
+     * @return the maximum number of pending writes HiveMQ Edge collects for one batch write. A value of 1 disables
+     *         batch writes.
+     */
+    default int getMaxWriteBatchSize() {
+        return 1;
+    }
+
     @NotNull
     Class<? extends WritingPayload> getMqttPayloadClass(); //TODO ProtocolAdapterInformation??
 }
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.api.data;
+
+import com.hivemq.adapter.sdk.api.config.ReportingPolicy;
+import com.hivemq.adapter.sdk.api.schema.ScalarType;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DataPointChangeFilterTest {
+
+    @Test
+    void accept_whenAlways_thenEqualValuesArePublished() {
+        final DataPointChangeFilter filter = new DataPointChangeFilter(List.of(ReportingPolicy.ALWAYS));
+
+        assertTrue(filter.accept(0, longValue(1)));
+        assertTrue(filter.accept(0, longValue(1)));
+    }
+
+    @Test
+    void accept_whenOnChange_thenOnlyChangedValuesArePublished() {
+        final DataPointChangeFilter filter = new DataPointChangeFilter(List.of(ReportingPolicy.ON_CHANGE));
+
+        assertTrue(filter.accept(0, longValue(1)));
+        assertFalse(filter.accept(0, longValue(1)));
+        assertTrue(filter.accept(0, longValue(2)));
+        assertTrue(filter.accept(0, object("on")));
+        assertFalse(filter.accept(0, object("on")));
+        assertTrue(filter.accept(0, object("off")));
+    }
+
+    @Test
+    void accept_whenSlotsDiffer_thenTheyAreTrackedSeparately() {
+        final DataPointChangeFilter filter =
+                new DataPointChangeFilter(List.of(ReportingPolicy.ON_CHANGE, ReportingPolicy.ON_CHANGE));
+
+        assertTrue(filter.accept(0, longValue(1)));
+        assertTrue(filter.accept(1, longValue(1)));
+        assertFalse(filter.accept(0, longValue(1)));
+        assertFalse(filter.accept(1, longValue(1)));
+    }
+
+    @Test
+    void accept_whenOnChangeAndArrayValues_thenArraysAreComparedByContent() {
+        final DataPointChangeFilter filter = new DataPointChangeFilter(List.of(ReportingPolicy.ON_CHANGE));
+
+        assertTrue(filter.accept(0, object(new byte[]{1, 2})));
+        assertFalse(filter.accept(0, object(new byte[]{1, 2})));
+        assertTrue(filter.accept(0, object(new byte[]{1, 3})));
+    }
+
+    @Test
+    void accept_whenScalarTypesDiffer_thenValuesAreNotEqual() {
+        final DataPointChangeFilter filter = new DataPointChangeFilter(List.of(ReportingPolicy.ON_CHANGE));
+
+        assertTrue(filter.accept(0, longValue(1)));
+        assertTrue(filter.accept(0, booleanValue(true)));
+        assertFalse(filter.accept(0, booleanValue(true)));
+        assertFalse(filter.accept(0, object(true)));
+        assertTrue(filter.accept(0, object(1L)));
+        assertTrue(filter.accept(0, object("1")));
+        assertTrue(filter.accept(0, longValue(1)));
+    }
+
+    @Test
+    void accept_whenAbsoluteDeadband_thenDifferenceMustExceedDeadband() {
+        final DataPointChangeFilter filter = new DataPointChangeFilter(List.of(ReportingPolicy.absoluteDeadband(1)));
+
+        assertTrue(filter.accept(0, longValue(10)));
+        assertFalse(filter.accept(0, longValue(11)));
+        assertFalse(filter.accept(0, longValue(9)));
+        assertTrue(filter.accept(0, longValue(12)));
+    }
+
+    @Test
+    void accept_whenAbsoluteDeadband_thenSlowDriftIsPublished() {
+        final DataPointChangeFilter filter = new DataPointChangeFilter(List.of(ReportingPolicy.absoluteDeadband(1)));
+
+        assertTrue(filter.accept(0, doubleValue(10.0)));
+        assertFalse(filter.accept(0, doubleValue(10.6)));
+        assertTrue(filter.accept(0, doubleValue(11.2)));
+        assertFalse(filter.accept(0, doubleValue(10.6)));
+    }
+
+    @Test
+    void accept_whenAbsoluteDeadbandAndLargeLongValues_thenDifferenceIsExact() {
+        final DataPointChangeFilter filter = new DataPointChangeFilter(List.of(ReportingPolicy.absoluteDeadband(0)));
+
+        assertTrue(filter.accept(0, longValue(1L << 53)));
+        assertTrue(filter.accept(0, longValue((1L << 53) + 1)));
+        assertTrue(filter.accept(0, longValue(Long.MIN_VALUE)));
+        assertTrue(filter.accept(0, longValue(Long.MAX_VALUE)));
+    }
+
+    @Test
+    void accept_whenAbsoluteDeadbandAndLargeUnsignedValues_thenDifferenceIsExact() {
+        final DataPointChangeFilter filter = new DataPointChangeFilter(List.of(ReportingPolicy.absoluteDeadband(1)));
+
+        assertTrue(filter.accept(0, unsignedLongValue(-3)));
+        assertFalse(filter.accept(0, unsignedLongValue(-2)));
+        assertTrue(filter.accept(0, unsignedLongValue(-1)));
+        assertTrue(filter.accept(0, unsignedLongValue(0)));
+        assertFalse(filter.accept(0, unsignedLongValue(1)));
+    }
+
+    @Test
+    void accept_whenAbsoluteDeadbandAndBoxedNumbers_thenDeadbandIsApplied() {
+        final DataPointChangeFilter filter =
+                new DataPointChangeFilter(List.of(ReportingPolicy.absoluteDeadband(1.0)));
+
+        assertTrue(filter.accept(0, object(10.0)));
+        assertFalse(filter.accept(0, object(10.1)));
+        assertFalse(filter.accept(0, object(10)));
+        assertTrue(filter.accept(0, object(12)));
+    }
+
+    @Test
+    void accept_whenPercentDeadband_thenDifferenceMustExceedPercentageOfLastValue() {
+        final DataPointChangeFilter filter = new DataPointChangeFilter(List.of(ReportingPolicy.percentDeadband(5)));
+
+        assertTrue(filter.accept(0, longValue(-100)));
+        assertFalse(filter.accept(0, longValue(-105)));
+        assertTrue(filter.accept(0, longValue(-106)));
+    }
+
+    @Test
+    void accept_whenPercentDeadbandAndLastValueIsZero_thenEveryChangeIsPublished() {
+        final DataPointChangeFilter filter = new DataPointChangeFilter(List.of(ReportingPolicy.percentDeadband(50)));
+
+        assertTrue(filter.accept(0, doubleValue(0)));
+        assertFalse(filter.accept(0, doubleValue(0)));
+        assertTrue(filter.accept(0, doubleValue(0.001)));
+    }
+
+    @Test
+    void accept_whenDeadbandAndNonNumericValues_thenHandledLikeOnChange() {
+        final DataPointChangeFilter filter = new DataPointChangeFilter(List.of(ReportingPolicy.absoluteDeadband(10)));
+
+        assertTrue(filter.accept(0, booleanValue(false)));
+        assertFalse(filter.accept(0, booleanValue(false)));
+        assertTrue(filter.accept(0, booleanValue(true)));
+        assertTrue(filter.accept(0, object("a")));
+        assertTrue(filter.accept(0, object("b")));
+    }
+
+    @Test
+    void accept_whenNaN_thenOnlyTheChangeToNaNIsPublished() {
+        final DataPointChangeFilter filter = new DataPointChangeFilter(List.of(ReportingPolicy.absoluteDeadband(1)));
+
+        assertTrue(filter.accept(0, doubleValue(1)));
+        assertTrue(filter.accept(0, doubleValue(Double.NaN)));
+        assertFalse(filter.accept(0, doubleValue(Double.NaN)));
+        assertTrue(filter.accept(0, doubleValue(1)));
+    }
+
+    @Test
+    void reset_whenSlotIsReset_thenNextValueIsPublished() {
+        final DataPointChangeFilter filter = new DataPointChangeFilter(List.of(ReportingPolicy.ON_CHANGE));
+
+        assertTrue(filter.accept(0, longValue(1)));
+        filter.reset(0);
+        assertTrue(filter.accept(0, longValue(1)));
+        filter.reset();
+        assertTrue(filter.accept(0, longValue(1)));
+    }
+
+    private static @NotNull DataPoint longValue(final long value) {
+        return new TestScalarDataPoint(ScalarType.LONG, value, 0);
+    }
+
+    private static @NotNull DataPoint unsignedLongValue(final long value) {
+        return new TestScalarDataPoint(ScalarType.ULONG, value, 0);
+    }
+
+    private static @NotNull DataPoint doubleValue(final double value) {
+        return new TestScalarDataPoint(ScalarType.DOUBLE, 0, value);
+    }
+
+    private static @NotNull DataPoint booleanValue(final boolean value) {
+        return new TestScalarDataPoint(ScalarType.BOOLEAN, value ? 1 : 0, 0);
+    }
+
+    private static @NotNull DataPoint object(final @NotNull Object value) {
+        return new TestDataPoint(value);
+    }
+
+    private record TestScalarDataPoint(@NotNull ScalarType scalarType, long longValue, double doubleValue)
+            implements ScalarDataPoint {
+
+        @Override
+        public @NotNull ScalarType getScalarType() {
+            return scalarType;
+        }
+
+        @Override
+        public long getLong() {
+            return longValue;
+        }
+
+        @Override
+        public double getDouble() {
+            return doubleValue;
+        }
+
+        @Override
+        public boolean getBoolean() {
+            return longValue != 0;
+        }
+
+        @Override
+        public @NotNull String getTagName() {
+            return "tag";
+        }
+    }
+
+    private record TestDataPoint(@NotNull Object tagValue) implements DataPoint {
+
+        @Override
+        public @NotNull Object getTagValue() {
+            return tagValue;
+        }
+
+        @Override
+        public @NotNull String getTagName() {
+            return "tag";
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.api.data;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DataPointExpiryTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    @Test
+    void isExpired_whenAgeIsAtMostInterval_thenNotExpired() {
+        assertFalse(DataPointExpiry.isExpired(dataPoint("a", NOW - 10_000), 10, NOW));
+        assertFalse(DataPointExpiry.isExpired(dataPoint("a", NOW), 10, NOW));
+        assertFalse(DataPointExpiry.isExpired(dataPoint("a", NOW + 1_000), 10, NOW));
+    }
+
+    @Test
+    void isExpired_whenAgeExceedsInterval_thenExpired() {
+        assertTrue(DataPointExpiry.isExpired(dataPoint("a", NOW - 10_001), 10, NOW));
+    }
+
+    @Test
+    void isExpired_whenIntervalIsZero_thenNeverExpired() {
+        assertFalse(DataPointExpiry.isExpired(dataPoint("a", NOW), 0, NOW));
+        assertFalse(DataPointExpiry.isExpired(dataPoint("a", NOW - 60_000), 0, NOW));
+    }
+
+    @Test
+    void isExpired_whenNoTimestamp_thenNeverExpired() {
+        assertFalse(DataPointExpiry.isExpired(dataPoint("a", 0), 0, NOW));
+    }
+
+    @Test
+    void isExpired_whenIntervalIsNotSetOrInvalid_thenNeverExpired() {
+        assertFalse(DataPointExpiry.isExpired(dataPoint("a", 1), Long.MAX_VALUE, NOW));
+        assertFalse(DataPointExpiry.isExpired(dataPoint("a", 1), Long.MAX_VALUE / 1000, NOW));
+        assertFalse(DataPointExpiry.isExpired(dataPoint("a", 1), -1, NOW));
+    }
+
+    @Test
+    void isExpired_whenIntervalIsLarge_thenNoOverflow() {
+        assertFalse(DataPointExpiry.isExpired(dataPoint("a", 1), Long.MAX_VALUE / 1000 - 1, NOW));
+    }
+
+    @Test
+    void shed_whenExpiredDataPoints_thenTheyAreRemovedInPlace() {
+        final DataPoint fresh = dataPoint("fresh", NOW - 5_000);
+        final DataPoint unset = dataPoint("unset", 0);
+        final List<DataPoint> dataPoints =
+                new ArrayList<>(List.of(dataPoint("old", NOW - 60_000), fresh, dataPoint("older", 1), unset));
+
+        assertEquals(2, DataPointExpiry.shed(dataPoints, 10L, NOW));
+        assertEquals(List.of(fresh, unset), dataPoints);
+    }
+
+    @Test
+    void shed_whenIntervalIsNull_thenNothingIsRemoved() {
+        final List<DataPoint> dataPoints = new ArrayList<>(List.of(dataPoint("old", 1)));
+
+        assertEquals(0, DataPointExpiry.shed(dataPoints, null, NOW));
+        assertEquals(1, dataPoints.size());
+    }
+
+    private static @NotNull DataPoint dataPoint(final @NotNull String tagName, final long timestamp) {
+        return new TestDataPoint(tagName, timestamp);
+    }
+
+    private record TestDataPoint(@NotNull String tagName, long timestamp) implements DataPoint {
+
+        @Override
+        public @NotNull Object getTagValue() {
+            return 1;
+        }
+
+        @Override
+        public @NotNull String getTagName() {
+            return tagName;
+        }
+
+        @Override
+        public long getTimestamp() {
+            return timestamp;
+        }
+    }
+}
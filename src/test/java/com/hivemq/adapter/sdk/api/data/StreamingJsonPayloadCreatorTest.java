@@ -0,0 +1,184 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.api.data;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hivemq.adapter.sdk.api.config.MessageHandlingOptions;
+import com.hivemq.adapter.sdk.api.config.MqttUserProperty;
+import com.hivemq.adapter.sdk.api.config.PollingContext;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StreamingJsonPayloadCreatorTest {
+
+    private static final @NotNull ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final @NotNull PollingContext POLLING_CONTEXT = new TestPollingContext();
+
+    @Test
+    void convertToJson_whenPayloadsAreStreamed_thenOnePayloadPerStartAndEnd() {
+        final StreamingJsonPayloadCreator creator = (dataPoints, pollingContext, sink) -> {
+            for (final DataPoint dataPoint : dataPoints) {
+                final JsonGenerator generator = sink.startPayload();
+                generator.writeStartObject();
+                generator.writeNumberField(dataPoint.getTagName(), (Integer) dataPoint.getTagValue());
+                generator.writeEndObject();
+                sink.endPayload();
+            }
+        };
+
+        final List<byte[]> payloads =
+                creator.convertToJson(List.of(dataPoint("a", 1), dataPoint("b", 2)), POLLING_CONTEXT, OBJECT_MAPPER);
+
+        assertEquals(List.of("{\"a\":1}", "{\"b\":2}"), strings(payloads));
+    }
+
+    @Test
+    void convertToJson_whenNoPayloadIsWritten_thenNoPayloads() {
+        final StreamingJsonPayloadCreator creator = (dataPoints, pollingContext, sink) -> {
+        };
+
+        assertEquals(0, creator.convertToJson(List.of(dataPoint("a", 1)), POLLING_CONTEXT, OBJECT_MAPPER).size());
+    }
+
+    @Test
+    void convertToJson_whenPayloadIsWritten_thenItIsPassedThrough() {
+        final byte[] written = "{\"a\":1}".getBytes(StandardCharsets.UTF_8);
+        final StreamingJsonPayloadCreator creator = (dataPoints, pollingContext, sink) -> {
+            sink.writePayload(written);
+            final JsonGenerator generator = sink.startPayload();
+            generator.writeString("b");
+            sink.endPayload();
+        };
+
+        final List<byte[]> payloads = creator.convertToJson(List.of(), POLLING_CONTEXT, OBJECT_MAPPER);
+
+        assertEquals(2, payloads.size());
+        assertSame(written, payloads.get(0));
+        assertEquals("\"b\"", new String(payloads.get(1), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void convertToJson_whenPayloadsAreNested_thenIllegalStateException() {
+        final StreamingJsonPayloadCreator creator = (dataPoints, pollingContext, sink) -> {
+            sink.startPayload();
+            sink.startPayload();
+        };
+
+        assertThrows(IllegalStateException.class,
+                () -> creator.convertToJson(List.of(), POLLING_CONTEXT, OBJECT_MAPPER));
+    }
+
+    @Test
+    void convertToJson_whenPayloadIsNotStarted_thenIllegalStateException() {
+        final StreamingJsonPayloadCreator creator = (dataPoints, pollingContext, sink) -> sink.endPayload();
+
+        assertThrows(IllegalStateException.class,
+                () -> creator.convertToJson(List.of(), POLLING_CONTEXT, OBJECT_MAPPER));
+    }
+
+    @Test
+    void convertToJson_whenPayloadIsEndedTwice_thenIllegalStateException() {
+        final StreamingJsonPayloadCreator creator = (dataPoints, pollingContext, sink) -> {
+            sink.startPayload().writeNull();
+            sink.endPayload();
+            sink.endPayload();
+        };
+
+        assertThrows(IllegalStateException.class,
+                () -> creator.convertToJson(List.of(), POLLING_CONTEXT, OBJECT_MAPPER));
+    }
+
+    @Test
+    void convertToJson_whenWritingFails_thenUncheckedIOException() {
+        final IOException failure = new IOException("failed");
+        final StreamingJsonPayloadCreator creator = (dataPoints, pollingContext, sink) -> {
+            throw failure;
+        };
+
+        final UncheckedIOException exception = assertThrows(UncheckedIOException.class,
+                () -> creator.convertToJson(List.of(), POLLING_CONTEXT, OBJECT_MAPPER));
+        assertSame(failure, exception.getCause());
+    }
+
+    private static @NotNull List<String> strings(final @NotNull List<byte[]> payloads) {
+        return payloads.stream().map(payload -> new String(payload, StandardCharsets.UTF_8)).toList();
+    }
+
+    private static @NotNull DataPoint dataPoint(final @NotNull String tagName, final int value) {
+        return new TestDataPoint(tagName, value);
+    }
+
+    private record TestDataPoint(@NotNull String tagName, @NotNull Object tagValue) implements DataPoint {
+
+        @Override
+        public @NotNull Object getTagValue() {
+            return tagValue;
+        }
+
+        @Override
+        public @NotNull String getTagName() {
+            return tagName;
+        }
+    }
+
+    private static final class TestPollingContext implements PollingContext {
+
+        @Override
+        public @NotNull String getMqttTopic() {
+            return "topic";
+        }
+
+        @Override
+        public @NotNull String getTagName() {
+            return "tag";
+        }
+
+        @Override
+        public int getMqttQos() {
+            return 0;
+        }
+
+        @Override
+        public @NotNull MessageHandlingOptions getMessageHandlingOptions() {
+            return MessageHandlingOptions.MQTTMessagePerTag;
+        }
+
+        @Override
+        public @NotNull Boolean getIncludeTimestamp() {
+            return false;
+        }
+
+        @Override
+        public @NotNull Boolean getIncludeTagNames() {
+            return true;
+        }
+
+        @Override
+        public @NotNull List<MqttUserProperty> getUserProperties() {
+            return List.of();
+        }
+    }
+}
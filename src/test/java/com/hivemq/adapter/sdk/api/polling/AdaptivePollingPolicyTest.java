@@ -0,0 +1,77 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.api.polling;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AdaptivePollingPolicyTest {
+
+    @Test
+    void nextIntervalMillis_whenDisabled_thenBaseInterval() {
+        assertFalse(AdaptivePollingPolicy.DISABLED.isEnabled());
+        assertEquals(100, AdaptivePollingPolicy.DISABLED.nextIntervalMillis(100, 400, 1_000, false));
+    }
+
+    @Test
+    void nextIntervalMillis_whenPollsFail_thenIntervalGrowsUpToMax() {
+        final AdaptivePollingPolicy policy = AdaptivePollingPolicy.exponentialBackoff(300);
+
+        assertEquals(200, policy.nextIntervalMillis(100, 100, 10, false));
+        assertEquals(300, policy.nextIntervalMillis(100, 200, 10, false));
+        assertEquals(300, policy.nextIntervalMillis(100, 300, 10, false));
+    }
+
+    @Test
+    void nextIntervalMillis_whenPollIsSlow_thenIntervalGrows() {
+        final AdaptivePollingPolicy policy = AdaptivePollingPolicy.exponentialBackoff(1_000);
+
+        assertEquals(100, policy.nextIntervalMillis(100, 100, 80, true));
+        assertEquals(200, policy.nextIntervalMillis(100, 100, 81, true));
+    }
+
+    @Test
+    void nextIntervalMillis_whenPollsSucceedAgain_thenIntervalRecoversToBase() {
+        final AdaptivePollingPolicy policy = new AdaptivePollingPolicy(1_000, 2, 1.5, 0.8);
+
+        long interval = policy.nextIntervalMillis(100, 100, 10, false);
+        assertEquals(200, interval);
+        interval = policy.nextIntervalMillis(100, interval, 10, true);
+        assertEquals(133, interval);
+        interval = policy.nextIntervalMillis(100, interval, 10, true);
+        assertEquals(100, interval);
+        assertEquals(100, policy.nextIntervalMillis(100, interval, 10, true));
+    }
+
+    @Test
+    void nextIntervalMillis_whenMaxIsBelowBase_thenBaseIsTheLimit() {
+        final AdaptivePollingPolicy policy = AdaptivePollingPolicy.exponentialBackoff(50);
+
+        assertEquals(100, policy.nextIntervalMillis(100, 100, 10, false));
+    }
+
+    @Test
+    void adaptivePollingPolicy_whenParametersAreInvalid_thenIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptivePollingPolicy(-1, 2, 2, 0.8));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptivePollingPolicy(1_000, 0.5, 2, 0.8));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptivePollingPolicy(1_000, 2, 1, 0.8));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptivePollingPolicy(1_000, 2, 2, 0));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptivePollingPolicy(1_000, 2, Double.NaN, 0.8));
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2023-present HiveMQ GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hivemq.adapter.sdk.api.polling.batch;
+
+import com.hivemq.adapter.sdk.api.tag.Tag;
+import com.hivemq.adapter.sdk.api.tag.TagDefinition;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReadPlannerTest {
+
+    @Test
+    void plan_whenTagsWithoutAddress_thenTheyAreReadAloneAndFirst() {
+        final TestTag a = new TestTag("a");
+        final TestTag b = new TestTag("b");
+        final TestTag c = new TestTag("c");
+        final TestTag d = new TestTag("d");
+        final Map<Tag, ReadAddress> addresses =
+                Map.of(a, new ReadAddress("holding", 0, 1), c, new ReadAddress("coils", 0, 1));
+
+        final List<ReadGroup> groups = ReadPlanner.plan(List.of(a, b, c, d), addresses::get, ReadPlanOptions.UNLIMITED);
+
+        assertEquals(4, groups.size());
+        assertNull(groups.get(0).address());
+        assertEquals(List.of(b), groups.get(0).tags());
+        assertNull(groups.get(1).address());
+        assertEquals(List.of(d), groups.get(1).tags());
+        assertEquals(new ReadGroup(new ReadAddress("holding", 0, 1), List.of(a)), groups.get(2));
+        assertEquals(new ReadGroup(new ReadAddress("coils", 0, 1), List.of(c)), groups.get(3));
+    }
+
+    @Test
+    void plan_whenContiguous_thenAdjacentAndOverlappingTagsAreMerged() {
+        final TestTag a = new TestTag("a");
+        final TestTag b = new TestTag("b");
+        final TestTag c = new TestTag("c");
+        final TestTag d = new TestTag("d");
+        final Map<Tag, ReadAddress> addresses = Map.of(a,
+                new ReadAddress("holding", 0, 2),
+                b,
+                new ReadAddress("holding", 2, 2),
+                c,
+                new ReadAddress("holding", 3, 2),
+                d,
+                new ReadAddress("holding", 6, 1));
+
+        final List<ReadGroup> groups =
+                ReadPlanner.plan(List.of(a, b, c, d), addresses::get, ReadPlanOptions.CONTIGUOUS);
+
+        assertEquals(List.of(new ReadGroup(new ReadAddress("holding", 0, 5), List.of(a, b, c)),
+                new ReadGroup(new ReadAddress("holding", 6, 1), List.of(d))), groups);
+    }
+
+    @Test
+    void plan_whenTagsAreUnordered_thenTheyAreSortedByOffset() {
+        final TestTag a = new TestTag("a");
+        final TestTag b = new TestTag("b");
+        final TestTag c = new TestTag("c");
+        final Map<Tag, ReadAddress> addresses = Map.of(a,
+                new ReadAddress("holding", 4, 2),
+                b,
+                new ReadAddress("holding", 0, 2),
+                c,
+                new ReadAddress("holding", 2, 2));
+
+        final List<ReadGroup> groups = ReadPlanner.plan(List.of(a, b, c), addresses::get, ReadPlanOptions.CONTIGUOUS);
+
+        assertEquals(List.of(new ReadGroup(new ReadAddress("holding", 0, 6), List.of(b, c, a))), groups);
+    }
+
+    @Test
+    void plan_whenGapIsAtMostMaxGap_thenTagsAreMerged() {
+        final TestTag a = new TestTag("a");
+        final TestTag b = new TestTag("b");
+        final Map<Tag, ReadAddress> addresses =
+                Map.of(a, new ReadAddress("holding", 0, 1), b, new ReadAddress("holding", 3, 1));
+
+        final List<ReadGroup> merged =
+                ReadPlanner.plan(List.of(a, b), addresses::get, new ReadPlanOptions(2, 100, 100));
+        final List<ReadGroup> split =
+                ReadPlanner.plan(List.of(a, b), addresses::get, new ReadPlanOptions(1, 100, 100));
+
+        assertEquals(List.of(new ReadGroup(new ReadAddress("holding", 0, 4), List.of(a, b))), merged);
+        assertEquals(List.of(new ReadGroup(new ReadAddress("holding", 0, 1), List.of(a)),
+                new ReadGroup(new ReadAddress("holding", 3, 1), List.of(b))), split);
+    }
+
+    @Test
+    void plan_whenSpanExceedsMaxSpan_thenANewReadIsStarted() {
+        final TestTag a = new TestTag("a");
+        final TestTag b = new TestTag("b");
+        final TestTag c = new TestTag("c");
+        final Map<Tag, ReadAddress> addresses = Map.of(a,
+                new ReadAddress("holding", 0, 2),
+                b,
+                new ReadAddress("holding", 2, 2),
+                c,
+                new ReadAddress("holding", 4, 2));
+
+        final List<ReadGroup> groups =
+                ReadPlanner.plan(List.of(a, b, c), addresses::get, new ReadPlanOptions(0, 4, 100));
+
+        assertEquals(List.of(new ReadGroup(new ReadAddress("holding", 0, 4), List.of(a, b)),
+                new ReadGroup(new ReadAddress("holding", 4, 2), List.of(c))), groups);
+    }
+
+    @Test
+    void plan_whenMaxTagsPerReadIsReached_thenANewReadIsStarted() {
+        final List<TestTag> tags = List.of(new TestTag("a"),
+                new TestTag("b"),
+                new TestTag("c"),
+                new TestTag("d"),
+                new TestTag("e"));
+
+        final List<ReadGroup> groups = ReadPlanner.plan(tags,
+                tag -> new ReadAddress("holding", tags.indexOf(tag), 1),
+                new ReadPlanOptions(0, 100, 2));
+
+        assertEquals(List.of(new ReadGroup(new ReadAddress("holding", 0, 2), List.of(tags.get(0), tags.get(1))),
+                new ReadGroup(new ReadAddress("holding", 2, 2), List.of(tags.get(2), tags.get(3))),
+                new ReadGroup(new ReadAddress("holding", 4, 1), List.of(tags.get(4)))), groups);
+    }
+
+    @Test
+    void readPlanOptions_whenLimitsAreInvalid_thenIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ReadPlanOptions(-1, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ReadPlanOptions(0, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ReadPlanOptions(0, 1, 0));
+    }
+
+    private record TestTag(@NotNull String name) implements Tag {
+
+        @Override
+        public @NotNull TagDefinition getDefinition() {
+            return new TagDefinition() {
+            };
+        }
+
+        @Override
+        public @NotNull String getName() {
+            return name;
+        }
+
+        @Override
+        public @NotNull String getDescription() {
+            return "";
+        }
+    }
+}